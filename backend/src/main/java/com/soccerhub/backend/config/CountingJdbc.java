@@ -0,0 +1,93 @@
+package com.soccerhub.backend.config;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Datasource proxy reporting every statement execution and fetched row to
+ * {@link SqlStatementCounter}. Connections, statements and result sets handed
+ * out are wrapped in turn; everything else, including unwrap, goes straight
+ * to the pooled objects. A JDBC batch counts as one statement.
+ */
+final class CountingJdbc implements InvocationHandler {
+
+    private enum Kind { DATA_SOURCE, CONNECTION, STATEMENT, RESULT_SET }
+
+    private final Object target;
+    private final Kind kind;
+    // SQL of a prepared or callable statement, null for plain statements
+    private final String sql;
+
+    private CountingJdbc(Object target, Kind kind, String sql) {
+        this.target = target;
+        this.kind = kind;
+        this.sql = sql;
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, new CountingJdbc(dataSource, Kind.DATA_SOURCE, null));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.equals("equals") && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if (name.equals("hashCode") && args == null) {
+            return System.identityHashCode(proxy);
+        }
+
+        if (kind == Kind.STATEMENT && name.startsWith("execute") && SqlStatementCounter.current() != null) {
+            long started = System.nanoTime();
+            try {
+                return wrapResult(method, args, call(method, args));
+            } finally {
+                String executed = sql != null ? sql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : name;
+                SqlStatementCounter.executed(executed, System.nanoTime() - started);
+            }
+        }
+        Object result = call(method, args);
+        if (kind == Kind.RESULT_SET && name.equals("next") && Boolean.TRUE.equals(result)) {
+            SqlStatementCounter.rowFetched();
+        }
+        return wrapResult(method, args, result);
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private Object wrapResult(Method method, Object[] args, Object result) {
+        Class<?> type = method.getReturnType();
+        if (result == null || !type.isInterface()) {
+            return result;
+        }
+        return switch (kind) {
+            case DATA_SOURCE -> result instanceof Connection
+                ? proxy(type, new CountingJdbc(result, Kind.CONNECTION, null)) : result;
+            case CONNECTION -> result instanceof Statement && Statement.class.isAssignableFrom(type)
+                ? proxy(type, new CountingJdbc(result, Kind.STATEMENT,
+                    method.getName().startsWith("prepare") && args[0] instanceof String text ? text : null))
+                : result;
+            case STATEMENT -> result instanceof ResultSet && type == ResultSet.class
+                ? proxy(ResultSet.class, new CountingJdbc(result, Kind.RESULT_SET, null)) : result;
+            case RESULT_SET -> result;
+        };
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(CountingJdbc.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -215,6 +216,7 @@ public class DataSeeder implements CommandLineRunner {
         match2.setStatus(Match.Status.SCHEDULED);
         match2.setRefereeId(3L);
         matchRepository.save(match2);
+        matchRepository.syncFixtures(List.of(match1, match2));
         
         log.info("Seeded matches");
     }
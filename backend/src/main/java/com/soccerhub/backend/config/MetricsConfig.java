@@ -0,0 +1,54 @@
+package com.soccerhub.backend.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String OTHER = "other";
+    private static final Set<String> ID_TAGS = Set.of("division", "tournament");
+
+    /**
+     * Division and tournament ids make useful tags but are unbounded. Each
+     * meter name reports its first max-id-tag-values ids; later ids are
+     * folded into "other" so a large installation cannot blow up the number
+     * of series.
+     */
+    @Bean
+    public MeterFilter boundedIdTags(@Value("${app.metrics.max-id-tag-values:100}") int maxValues) {
+        Map<String, Set<String>> seen = new ConcurrentHashMap<>();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                List<Tag> tags = null;
+                for (Tag tag : id.getTagsAsIterable()) {
+                    if (!ID_TAGS.contains(tag.getKey()) || OTHER.equals(tag.getValue())) {
+                        continue;
+                    }
+                    Set<String> values = seen.computeIfAbsent(id.getName() + "|" + tag.getKey(),
+                        key -> ConcurrentHashMap.newKeySet());
+                    if (values.contains(tag.getValue())
+                            || (values.size() < maxValues && values.add(tag.getValue()))) {
+                        continue;
+                    }
+                    if (tags == null) {
+                        tags = new ArrayList<>(id.getTags());
+                    }
+                    tags.replaceAll(t -> t.getKey().equals(tag.getKey()) ? Tag.of(t.getKey(), OTHER) : t);
+                }
+                return tags == null ? id : id.replaceTags(tags);
+            }
+        };
+    }
+}
@@ -1,9 +1,14 @@
 package com.soccerhub.backend.config;
 
 import com.soccerhub.backend.security.JwtAuthenticationFilter;
+import com.soccerhub.backend.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -33,15 +38,15 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
     
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
     
@@ -51,7 +56,8 @@ public class SecurityConfig {
     }
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           DaoAuthenticationProvider authenticationProvider) throws Exception {
         // CSRF is disabled because this is a stateless REST API using JWT tokens.
         // JWT tokens are stored in localStorage and sent via Authorization header,
         // which are not vulnerable to CSRF attacks (unlike cookies).
@@ -60,18 +66,29 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Event streams complete on async dispatches after the original request was authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                // Actuator runs on the separate management port, which should not be reachable publicly
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/organizations/**").hasAnyRole("ADMIN", "ORGANIZER")
                 .requestMatchers("/api/tournaments/**").hasAnyRole("ADMIN", "ORGANIZER")
                 .requestMatchers("/api/divisions/**").hasAnyRole("ADMIN", "ORGANIZER")
+                .requestMatchers("/api/schedule-jobs/**").hasAnyRole("ADMIN", "ORGANIZER")
+                .requestMatchers("/api/exports/**").hasAnyRole("ADMIN", "ORGANIZER")
+                .requestMatchers("/api/imports/**").hasAnyRole("ADMIN", "ORGANIZER")
+                .requestMatchers(HttpMethod.GET, "/api/teams/*/fixtures").hasAnyRole("ADMIN", "ORGANIZER", "REFEREE")
                 .requestMatchers("/api/teams/**").hasAnyRole("ADMIN", "ORGANIZER")
                 .requestMatchers("/api/players/**").hasAnyRole("ADMIN", "ORGANIZER")
                 .requestMatchers("/api/venues/**").hasAnyRole("ADMIN", "ORGANIZER")
+                .requestMatchers(HttpMethod.GET, "/api/matches/stream").permitAll()
                 .requestMatchers("/api/matches/**").hasAnyRole("ADMIN", "ORGANIZER", "REFEREE")
                 .requestMatchers("/api/standings/**").permitAll()
                 .anyRequest().authenticated()
             )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
@@ -83,7 +100,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "ETag", "X-Next-Cursor",
+            SqlDiagnosticsConfig.STATEMENTS_HEADER, SqlDiagnosticsConfig.ROWS_HEADER, SqlDiagnosticsConfig.TIME_HEADER));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,126 @@
+package com.soccerhub.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Diagnostic mode counting the SQL statements of every HTTP request. The
+ * counts are returned in X-Sql-Statements, X-Sql-Rows and X-Sql-Time-Ms,
+ * and requests over the statement budget or repeating one statement (the
+ * N+1 pattern) are logged. Meant for development and tests, since every
+ * JDBC call goes through a proxy.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.sql-diagnostics.enabled", havingValue = "true")
+public class SqlDiagnosticsConfig {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                return bean instanceof DataSource dataSource ? CountingJdbc.wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlDiagnosticsFilter> sqlDiagnosticsFilter(
+            @Value("${app.sql-diagnostics.max-statements:20}") int maxStatements,
+            @Value("${app.sql-diagnostics.repeat-threshold:5}") int repeatThreshold) {
+        FilterRegistrationBean<SqlDiagnosticsFilter> registration =
+            new FilterRegistrationBean<>(new SqlDiagnosticsFilter(maxStatements, repeatThreshold));
+        // Outermost, so the statements of authentication are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    static class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+        private final int maxStatements;
+        private final int repeatThreshold;
+
+        SqlDiagnosticsFilter(int maxStatements, int repeatThreshold) {
+            this.maxStatements = maxStatements;
+            this.repeatThreshold = repeatThreshold;
+        }
+
+        @Override
+        protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                        @NonNull FilterChain filterChain) throws ServletException, IOException {
+            SqlStatementCounter.begin();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                SqlStatementCounter.Stats stats = SqlStatementCounter.end();
+                String call = request.getMethod() + " " + request.getRequestURI();
+                if (stats.getStatements() > maxStatements) {
+                    log.warn("{} ran {}, over the budget of {} statements", call, stats, maxStatements);
+                }
+                Map<String, Integer> repeated = stats.repeated(repeatThreshold);
+                repeated.forEach((sql, count) ->
+                    log.warn("{} ran the same statement {} times, likely an N+1 query: {}", call, count, sql));
+                if (log.isDebugEnabled()) {
+                    log.debug("{} ran {}", call, stats);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the counts so far to the response just before the body is
+     * written; statements run while serializing the body are only logged.
+     */
+    @ControllerAdvice
+    @ConditionalOnProperty(name = "app.sql-diagnostics.enabled", havingValue = "true")
+    static class SqlDiagnosticsHeaders implements ResponseBodyAdvice<Object> {
+
+        @Override
+        public boolean supports(@NonNull MethodParameter returnType,
+                                @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                      @NonNull MediaType selectedContentType,
+                                      @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+            SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+            if (stats != null) {
+                response.getHeaders().set(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+                response.getHeaders().set(ROWS_HEADER, Long.toString(stats.getRows()));
+                response.getHeaders().set(TIME_HEADER, Long.toString(stats.getTimeMillis()));
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.soccerhub.backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Counts the JDBC statements, fetched rows and statement time of the work
+ * running on the current thread. Counting only happens with
+ * app.sql-diagnostics.enabled, which routes the datasource through
+ * {@link CountingJdbc}; SqlDiagnosticsFilter opens a scope per HTTP request.
+ *
+ * Tests use {@link #measure(Supplier)} to count the statements of a piece
+ * of code and check them against a budget.
+ */
+public final class SqlStatementCounter {
+
+    // Distinct statements remembered per scope for the repeated-statement report
+    private static final int MAX_TRACKED_STATEMENTS = 500;
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Stats begin() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static Stats end() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Statistics of the scope open on this thread, or null when none is.
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    public static <T> Measured<T> measure(Supplier<T> work) {
+        Stats outer = CURRENT.get();
+        Stats stats = begin();
+        try {
+            return new Measured<>(work.get(), stats);
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+                outer.add(stats);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void executed(String sql, long nanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.executed(sql, nanos);
+        }
+    }
+
+    static void rowFetched() {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    public record Measured<T>(T result, Stats stats) {
+    }
+
+    public static final class Stats {
+        private int statements;
+        private long rows;
+        private long nanos;
+        private final Map<String, Integer> executionsBySql = new LinkedHashMap<>();
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getTimeMillis() {
+            return nanos / 1_000_000;
+        }
+
+        /**
+         * Statements executed at least {@code threshold} times, the usual
+         * sign of an N+1 query.
+         */
+        public Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            executionsBySql.forEach((sql, count) -> {
+                if (count >= threshold) {
+                    repeated.put(sql, count);
+                }
+            });
+            return repeated;
+        }
+
+        @Override
+        public String toString() {
+            return statements + " statements, " + rows + " rows, " + getTimeMillis() + " ms";
+        }
+
+        private void executed(String sql, long statementNanos) {
+            statements++;
+            nanos += statementNanos;
+            if (executionsBySql.containsKey(sql) || executionsBySql.size() < MAX_TRACKED_STATEMENTS) {
+                executionsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        private void add(Stats other) {
+            statements += other.statements;
+            rows += other.rows;
+            nanos += other.nanos;
+            other.executionsBySql.forEach((sql, count) -> {
+                if (executionsBySql.containsKey(sql) || executionsBySql.size() < MAX_TRACKED_STATEMENTS) {
+                    executionsBySql.merge(sql, count, Integer::sum);
+                }
+            });
+        }
+    }
+}
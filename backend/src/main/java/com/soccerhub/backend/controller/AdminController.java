@@ -0,0 +1,59 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.dto.SnapshotRestoreReport;
+import com.soccerhub.backend.dto.StandingsRebuildReport;
+import com.soccerhub.backend.dto.ThreadDiagnosticsReport;
+import com.soccerhub.backend.service.StandingsRebuildService;
+import com.soccerhub.backend.service.ThreadDiagnosticsService;
+import com.soccerhub.backend.service.TournamentSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    
+    private final StandingsRebuildService standingsRebuildService;
+    private final ThreadDiagnosticsService threadDiagnosticsService;
+    private final TournamentSnapshotService tournamentSnapshotService;
+    
+    @PostMapping("/standings/rebuild")
+    public ResponseEntity<StandingsRebuildReport> rebuildStandings(
+            @RequestParam(defaultValue = "false") boolean fix) {
+        return ResponseEntity.ok(standingsRebuildService.rebuild(fix));
+    }
+
+    @GetMapping("/diagnostics/threads")
+    public ResponseEntity<ThreadDiagnosticsReport> threadDiagnostics() {
+        return ResponseEntity.ok(threadDiagnosticsService.report());
+    }
+
+    @GetMapping("/tournaments/{id}/snapshot")
+    public ResponseEntity<StreamingResponseBody> exportSnapshot(@PathVariable Long id) {
+        tournamentSnapshotService.getTournament(id);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tournament-" + id + ".snapshot")
+                .build()
+                .toString())
+            .body(out -> tournamentSnapshotService.writeSnapshot(id, out));
+    }
+
+    @PostMapping(value = "/snapshots/restore", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<SnapshotRestoreReport> restoreSnapshot(
+            @RequestParam(required = false) Long organizationId,
+            InputStream snapshot) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(tournamentSnapshotService.restore(snapshot, organizationId));
+    }
+}
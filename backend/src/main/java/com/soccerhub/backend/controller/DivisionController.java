@@ -1,5 +1,6 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.ScheduleResponse;
 import com.soccerhub.backend.entity.Division;
 import com.soccerhub.backend.entity.Match;
 import com.soccerhub.backend.service.DivisionService;
@@ -20,11 +21,10 @@ public class DivisionController {
     
     @GetMapping
     public ResponseEntity<List<Division>> getAllDivisions(
-            @RequestParam(required = false) Long tournamentId) {
-        if (tournamentId != null) {
-            return ResponseEntity.ok(divisionService.getDivisionsByTournamentId(tournamentId));
-        }
-        return ResponseEntity.ok(divisionService.getAllDivisions());
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return divisionService.findDivisions(tournamentId, cursor, limit).toResponseEntity();
     }
     
     @GetMapping("/{id}")
@@ -51,12 +51,17 @@ public class DivisionController {
     }
 
     @PostMapping("/{id}/generate-schedule")
-    public ResponseEntity<List<Match>> generateSchedule(@PathVariable Long id) {
-        return ResponseEntity.ok(divisionService.generateSchedule(id));
+    public ResponseEntity<ScheduleResponse> generateSchedule(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean doubleRoundRobin) {
+        return ResponseEntity.ok(divisionService.generateSchedule(id, doubleRoundRobin));
     }
 
     @PostMapping("/{id}/generate-playoffs")
-    public ResponseEntity<List<Match>> generatePlayoffs(@PathVariable Long id) {
-        return ResponseEntity.ok(divisionService.generatePlayoffs(id));
+    public ResponseEntity<List<Match>> generatePlayoffs(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer teams,
+            @RequestParam(defaultValue = "false") boolean thirdPlace) {
+        return ResponseEntity.ok(divisionService.generatePlayoffs(id, teams, thirdPlace));
     }
 }
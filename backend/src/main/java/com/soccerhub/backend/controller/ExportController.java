@@ -0,0 +1,61 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    
+    private final ExportService exportService;
+    
+    @GetMapping("/matches")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @RequestParam(required = false) Long organizationId,
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return attachment("matches", exportFormat,
+            exportService.exportMatches(organizationId, tournamentId, divisionId, exportFormat));
+    }
+    
+    @GetMapping("/players")
+    public ResponseEntity<StreamingResponseBody> exportPlayers(
+            @RequestParam(required = false) Long organizationId,
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return attachment("players", exportFormat,
+            exportService.exportPlayers(organizationId, tournamentId, divisionId, exportFormat));
+    }
+    
+    @GetMapping("/standings")
+    public ResponseEntity<StreamingResponseBody> exportStandings(
+            @RequestParam(required = false) Long organizationId,
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return attachment("standings", exportFormat,
+            exportService.exportStandings(organizationId, tournamentId, divisionId, exportFormat));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportService.Format format,
+                                                             StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,38 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.dto.ImportReport;
+import com.soccerhub.backend.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+public class ImportController {
+    
+    private final ImportService importService;
+    
+    @PostMapping(value = "/teams", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importTeams(InputStream csv) {
+        return toResponse(importService.importTeams(csv));
+    }
+    
+    @PostMapping(value = "/players", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importPlayers(InputStream csv) {
+        return toResponse(importService.importPlayers(csv));
+    }
+    
+    @PostMapping(value = "/venues", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importVenues(InputStream csv) {
+        return toResponse(importService.importVenues(csv));
+    }
+    
+    private ResponseEntity<ImportReport> toResponse(ImportReport report) {
+        return report.getRejected() > 0
+            ? ResponseEntity.badRequest().body(report)
+            : ResponseEntity.ok(report);
+    }
+}
@@ -1,14 +1,20 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.MatchFilter;
 import com.soccerhub.backend.dto.MatchRequest;
+import com.soccerhub.backend.dto.MatchResultBatchResponse;
 import com.soccerhub.backend.dto.MatchResultRequest;
+import com.soccerhub.backend.dto.MatchSummary;
 import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.service.LiveUpdateService;
 import com.soccerhub.backend.service.MatchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,18 +24,19 @@ import java.util.List;
 public class MatchController {
     
     private final MatchService matchService;
+    private final LiveUpdateService liveUpdateService;
     
     @GetMapping
-    public ResponseEntity<List<Match>> getAllMatches(
-            @RequestParam(required = false) Long divisionId,
-            @RequestParam(required = false) Long teamId) {
-        if (divisionId != null) {
-            return ResponseEntity.ok(matchService.getMatchesByDivisionId(divisionId));
-        }
-        if (teamId != null) {
-            return ResponseEntity.ok(matchService.getMatchesByTeamId(teamId));
-        }
-        return ResponseEntity.ok(matchService.getAllMatches());
+    public ResponseEntity<List<MatchSummary>> getAllMatches(
+            MatchFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return matchService.findMatches(filter, cursor, limit).toResponseEntity();
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatches(@RequestParam Long divisionId) {
+        return liveUpdateService.subscribe(LiveUpdateService.Stream.MATCHES, divisionId);
     }
     
     @GetMapping("/{id}")
@@ -83,6 +90,11 @@ public class MatchController {
         return ResponseEntity.ok(matchService.updateMatchResult(id, result));
     }
     
+    @PostMapping("/results/batch")
+    public ResponseEntity<MatchResultBatchResponse> submitResults(@RequestBody List<MatchResultRequest> results) {
+        return ResponseEntity.ok(matchService.submitResults(results));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMatch(@PathVariable Long id) {
         matchService.deleteMatch(id);
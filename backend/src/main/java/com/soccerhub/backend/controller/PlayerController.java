@@ -1,5 +1,6 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.PlayerSummary;
 import com.soccerhub.backend.entity.Player;
 import com.soccerhub.backend.service.PlayerService;
 import jakarta.validation.Valid;
@@ -18,12 +19,11 @@ public class PlayerController {
     private final PlayerService playerService;
     
     @GetMapping
-    public ResponseEntity<List<Player>> getAllPlayers(
-            @RequestParam(required = false) Long teamId) {
-        if (teamId != null) {
-            return ResponseEntity.ok(playerService.getPlayersByTeamId(teamId));
-        }
-        return ResponseEntity.ok(playerService.getAllPlayers());
+    public ResponseEntity<List<PlayerSummary>> getAllPlayers(
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return playerService.findPlayers(teamId, cursor, limit).toResponseEntity();
     }
     
     @GetMapping("/{id}")
@@ -0,0 +1,37 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.dto.ScheduleJobRequest;
+import com.soccerhub.backend.dto.ScheduleJobResponse;
+import com.soccerhub.backend.service.ScheduleJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/schedule-jobs")
+@RequiredArgsConstructor
+public class ScheduleJobController {
+    
+    private final ScheduleJobService scheduleJobService;
+    
+    @PostMapping
+    public ResponseEntity<ScheduleJobResponse> submitJob(@Valid @RequestBody ScheduleJobRequest request) {
+        ScheduleJobResponse job = scheduleJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .header(HttpHeaders.LOCATION, "/api/schedule-jobs/" + job.getId())
+            .body(job);
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduleJobResponse> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(scheduleJobService.getJob(id));
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ScheduleJobResponse> cancelJob(@PathVariable String id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scheduleJobService.cancel(id));
+    }
+}
@@ -1,12 +1,16 @@
 package com.soccerhub.backend.controller;
 
-import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.dto.StandingsPayload;
+import com.soccerhub.backend.service.LiveUpdateService;
 import com.soccerhub.backend.service.StandingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/standings")
@@ -14,9 +18,42 @@ import java.util.List;
 public class StandingController {
     
     private final StandingService standingService;
+    private final LiveUpdateService liveUpdateService;
     
     @GetMapping
-    public ResponseEntity<List<Standing>> getStandings(@RequestParam Long divisionId) {
-        return ResponseEntity.ok(standingService.getStandingsByDivisionId(divisionId));
+    public ResponseEntity<byte[]> getStandings(
+            @RequestParam Long divisionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String currentETag = standingService.getStandingsETag(divisionId);
+        if (matchesAny(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(currentETag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        StandingsPayload payload = standingService.getStandingsPayload(divisionId);
+        return ResponseEntity.ok()
+            .eTag(payload.etag())
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(payload.body());
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStandings(@RequestParam Long divisionId) {
+        return liveUpdateService.subscribe(LiveUpdateService.Stream.STANDINGS, divisionId);
+    }
+    
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
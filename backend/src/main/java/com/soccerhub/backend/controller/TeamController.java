@@ -1,13 +1,17 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.TeamFixture;
+import com.soccerhub.backend.dto.TeamSummary;
 import com.soccerhub.backend.entity.Team;
 import com.soccerhub.backend.service.TeamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,12 +22,11 @@ public class TeamController {
     private final TeamService teamService;
     
     @GetMapping
-    public ResponseEntity<List<Team>> getAllTeams(
-            @RequestParam(required = false) Long divisionId) {
-        if (divisionId != null) {
-            return ResponseEntity.ok(teamService.getTeamsByDivisionId(divisionId));
-        }
-        return ResponseEntity.ok(teamService.getAllTeams());
+    public ResponseEntity<List<TeamSummary>> getAllTeams(
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return teamService.findTeams(divisionId, cursor, limit).toResponseEntity();
     }
     
     @GetMapping("/{id}")
@@ -31,6 +34,16 @@ public class TeamController {
         return ResponseEntity.ok(teamService.getTeamById(id));
     }
     
+    @GetMapping("/{id}/fixtures")
+    public ResponseEntity<List<TeamFixture>> getFixtures(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return teamService.findFixtures(id, from, to, cursor, limit).toResponseEntity();
+    }
+    
     @PostMapping
     public ResponseEntity<Team> createTeam(@Valid @RequestBody Team team) {
         return ResponseEntity.status(HttpStatus.CREATED)
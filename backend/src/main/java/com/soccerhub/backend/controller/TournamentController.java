@@ -1,6 +1,8 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.TournamentScheduleResponse;
 import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.service.DivisionService;
 import com.soccerhub.backend.service.TournamentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import java.util.List;
 public class TournamentController {
     
     private final TournamentService tournamentService;
+    private final DivisionService divisionService;
     
     @GetMapping
     public ResponseEntity<List<Tournament>> getAllTournaments(
@@ -48,4 +51,11 @@ public class TournamentController {
         tournamentService.deleteTournament(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/generate-schedule")
+    public ResponseEntity<TournamentScheduleResponse> generateSchedule(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean doubleRoundRobin) {
+        return ResponseEntity.ok(divisionService.generateTournamentSchedule(id, doubleRoundRobin));
+    }
 }
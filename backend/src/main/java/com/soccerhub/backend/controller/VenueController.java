@@ -1,5 +1,6 @@
 package com.soccerhub.backend.controller;
 
+import com.soccerhub.backend.dto.VenueSummary;
 import com.soccerhub.backend.entity.Venue;
 import com.soccerhub.backend.service.VenueService;
 import jakarta.validation.Valid;
@@ -18,8 +19,10 @@ public class VenueController {
     private final VenueService venueService;
     
     @GetMapping
-    public ResponseEntity<List<Venue>> getAllVenues() {
-        return ResponseEntity.ok(venueService.getAllVenues());
+    public ResponseEntity<List<VenueSummary>> getAllVenues(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return venueService.findVenues(cursor, limit).toResponseEntity();
     }
     
     @GetMapping("/{id}")
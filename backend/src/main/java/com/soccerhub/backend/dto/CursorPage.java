@@ -0,0 +1,26 @@
+package com.soccerhub.backend.dto;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the
+ * last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Listings keep returning a plain JSON array; the cursor of the next page
+     * travels in the X-Next-Cursor header and is absent on the last page.
+     */
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items);
+    }
+}
@@ -0,0 +1,29 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+    private int rows;
+    private int imported;
+    private int rejected;
+    private long elapsedMillis;
+    private List<RowError> errors = new ArrayList<>();
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        // Line of the CSV input the row starts on; the header is line 1
+        private long line;
+        private String column;
+        private String message;
+    }
+}
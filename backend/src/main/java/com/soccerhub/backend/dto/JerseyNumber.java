@@ -0,0 +1,7 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Jersey number taken within a team, selected without hydrating the Player entity.
+ */
+public record JerseyNumber(Long teamId, Integer jerseyNumber) {
+}
@@ -0,0 +1,15 @@
+package com.soccerhub.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Existing match that occupies a venue and two teams, selected without
+ * hydrating the Match entity. The duration is the match's division setting
+ * and may be null.
+ */
+public record MatchBooking(Long venueId,
+                           Long homeTeamId,
+                           Long awayTeamId,
+                           LocalDateTime matchDate,
+                           Integer durationMinutes) {
+}
@@ -0,0 +1,37 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional, combinable filters of the match listing. Null fields are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchFilter {
+    
+    private Long divisionId;
+    
+    private Long tournamentId;
+    
+    private Long teamId;
+    
+    private Long venueId;
+    
+    private String status;
+    
+    private String playoffRound;
+    
+    // Inclusive lower bound of matchDate
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    
+    // Exclusive upper bound of matchDate
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
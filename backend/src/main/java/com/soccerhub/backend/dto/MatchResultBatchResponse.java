@@ -0,0 +1,27 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchResultBatchResponse {
+    private int submitted;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private Long matchId;
+        private boolean success;
+        private String error;
+    }
+}
@@ -10,9 +10,17 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class MatchResultRequest {
     
+    // Only used by the batch endpoint; single updates take the id from the path
+    private Long matchId;
+    
     @NotNull(message = "Home score is required")
     private Integer homeScore;
     
     @NotNull(message = "Away score is required")
     private Integer awayScore;
+    
+    // Shoot-out score of a level playoff match, when the division decides ties on penalties
+    private Integer homePenalties;
+    
+    private Integer awayPenalties;
 }
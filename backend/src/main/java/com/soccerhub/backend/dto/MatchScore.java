@@ -0,0 +1,7 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Score line of a completed match, selected without hydrating the Match entity.
+ */
+public record MatchScore(Long homeTeamId, Long awayTeamId, Integer homeScore, Integer awayScore) {
+}
@@ -0,0 +1,27 @@
+package com.soccerhub.backend.dto;
+
+import com.soccerhub.backend.entity.Match;
+
+import java.time.LocalDateTime;
+
+/**
+ * Match as returned by the match listing, selected without hydrating the
+ * Match entity. Leaves out the audit timestamps and the bracket links, which
+ * GET /api/matches/{id} still returns.
+ */
+public record MatchSummary(Long id,
+                           Long divisionId,
+                           Long homeTeamId,
+                           Long awayTeamId,
+                           Integer homeSeed,
+                           Integer awaySeed,
+                           Long venueId,
+                           LocalDateTime matchDate,
+                           Integer homeScore,
+                           Integer awayScore,
+                           Integer homePenalties,
+                           Integer awayPenalties,
+                           String playoffRound,
+                           Match.Status status,
+                           Long refereeId) {
+}
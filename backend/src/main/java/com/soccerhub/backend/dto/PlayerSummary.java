@@ -0,0 +1,13 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Player as returned by the player listing, selected without hydrating the
+ * Player entity or reading its audit timestamps.
+ */
+public record PlayerSummary(Long id,
+                            String firstName,
+                            String lastName,
+                            Long teamId,
+                            Integer jerseyNumber,
+                            String position) {
+}
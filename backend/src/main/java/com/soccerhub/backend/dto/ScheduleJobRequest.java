@@ -0,0 +1,31 @@
+package com.soccerhub.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleJobRequest {
+    
+    @NotNull(message = "Job type is required")
+    private Type type;
+    
+    @NotNull(message = "Division ID is required")
+    private Long divisionId;
+    
+    // Only used by SCHEDULE jobs
+    private boolean doubleRoundRobin;
+    
+    // Only used by PLAYOFFS jobs; null qualifies 4 teams
+    private Integer playoffTeams;
+    
+    // Only used by PLAYOFFS jobs
+    private boolean thirdPlace;
+    
+    public enum Type {
+        SCHEDULE, PLAYOFFS
+    }
+}
@@ -0,0 +1,36 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleJobResponse {
+    private String id;
+    private ScheduleJobRequest.Type type;
+    private Long divisionId;
+    private Status status;
+    private String phase;
+    private int completed;
+    private int total;
+    private boolean cancelRequested;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Integer matchesCreated;
+    private List<ScheduleResponse.UnscheduledMatch> unscheduled;
+    private String error;
+    
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+        
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+}
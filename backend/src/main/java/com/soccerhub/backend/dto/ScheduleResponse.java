@@ -0,0 +1,26 @@
+package com.soccerhub.backend.dto;
+
+import com.soccerhub.backend.entity.Match;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleResponse {
+    private List<Match> matches;
+    private List<UnscheduledMatch> unscheduled;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnscheduledMatch {
+        private int round;
+        private Long homeTeamId;
+        private Long awayTeamId;
+        private String reason;
+    }
+}
@@ -0,0 +1,20 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotRestoreReport {
+    private Long tournamentId;
+    private int divisions;
+    private int teams;
+    private int players;
+    private int venuesCreated;
+    private int venuesReused;
+    private int matches;
+    private int standings;
+    private long elapsedMillis;
+}
@@ -0,0 +1,57 @@
+package com.soccerhub.backend.dto;
+
+import java.util.List;
+
+/**
+ * Change to one team's standing row caused by a match result (or its reversal).
+ * Goal difference is always derived from goals for/against.
+ */
+public record StandingDelta(Long teamId,
+                           int played,
+                           int won,
+                           int drawn,
+                           int lost,
+                           int goalsFor,
+                           int goalsAgainst,
+                           int points) {
+
+    public static List<StandingDelta> forResult(Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        int homeWon = homeScore > awayScore ? 1 : 0;
+        int awayWon = homeScore < awayScore ? 1 : 0;
+        int drawn = homeScore == awayScore ? 1 : 0;
+        return List.of(
+            new StandingDelta(homeTeamId, 1, homeWon, drawn, awayWon, homeScore, awayScore, homeWon * 3 + drawn),
+            new StandingDelta(awayTeamId, 1, awayWon, drawn, homeWon, awayScore, homeScore, awayWon * 3 + drawn)
+        );
+    }
+
+    public static List<StandingDelta> reversing(Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        return forResult(homeTeamId, awayTeamId, homeScore, awayScore).stream()
+            .map(StandingDelta::negate)
+            .toList();
+    }
+
+    public int goalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    public StandingDelta plus(StandingDelta other) {
+        return new StandingDelta(teamId,
+            played + other.played,
+            won + other.won,
+            drawn + other.drawn,
+            lost + other.lost,
+            goalsFor + other.goalsFor,
+            goalsAgainst + other.goalsAgainst,
+            points + other.points);
+    }
+
+    public StandingDelta negate() {
+        return new StandingDelta(teamId, -played, -won, -drawn, -lost, -goalsFor, -goalsAgainst, -points);
+    }
+
+    public boolean isZero() {
+        return played == 0 && won == 0 && drawn == 0 && lost == 0
+            && goalsFor == 0 && goalsAgainst == 0 && points == 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * One line of the standings export: a team's row of its division's table,
+ * with its position in the ranked order.
+ */
+public record StandingExportRow(Long divisionId,
+                                int position,
+                                Long teamId,
+                                Integer played,
+                                Integer won,
+                                Integer drawn,
+                                Integer lost,
+                                Integer goalsFor,
+                                Integer goalsAgainst,
+                                Integer goalDifference,
+                                Integer points) {
+}
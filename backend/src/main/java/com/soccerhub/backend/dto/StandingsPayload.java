@@ -0,0 +1,8 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Serialized standings of a division together with the strong ETag of the
+ * table version it was built from.
+ */
+public record StandingsPayload(String etag, byte[] body) {
+}
@@ -0,0 +1,34 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingsRebuildReport {
+    private boolean fixed;
+    private int divisionsChecked;
+    private int divisionsDrifted;
+    private long matchesScanned;
+    private long elapsedMillis;
+    private List<TeamDrift> drifts;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TeamDrift {
+        private Long divisionId;
+        private Long teamId;
+        private Kind kind;
+        private String expected;
+        private String stored;
+    }
+    
+    public enum Kind {
+        MISMATCH, MISSING, ORPHANED
+    }
+}
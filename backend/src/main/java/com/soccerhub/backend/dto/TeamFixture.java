@@ -0,0 +1,31 @@
+package com.soccerhub.backend.dto;
+
+import com.soccerhub.backend.entity.Match;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A match from one team's point of view, with the names the fixture list
+ * shows already resolved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFixture {
+    private Long matchId;
+    private LocalDateTime matchDate;
+    private boolean home;
+    private Long divisionId;
+    private String playoffRound;
+    private Match.Status status;
+    private Long opponentId;
+    private String opponentName;
+    private Long venueId;
+    private String venueName;
+    private String venueCity;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+}
@@ -0,0 +1,8 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Team as returned by the team listing, selected without hydrating the Team
+ * entity or reading its audit timestamps.
+ */
+public record TeamSummary(Long id, String name, Long divisionId, String logo) {
+}
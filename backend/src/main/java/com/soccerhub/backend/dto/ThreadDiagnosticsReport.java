@@ -0,0 +1,47 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadDiagnosticsReport {
+    private boolean virtualThreads;
+    private boolean pinningMonitored;
+    private long pinningThresholdMs;
+    private long pinnedEvents;
+    private double pinnedTotalMs;
+    private List<PinningSite> pinningSites;
+    private List<ConnectionPool> connectionPools;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PinningSite {
+        private String site;
+        private long count;
+        private double totalMs;
+        private double maxMs;
+        private List<String> stackTrace;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConnectionPool {
+        private String name;
+        private int active;
+        private int idle;
+        private int pending;
+        private int max;
+        private long acquisitions;
+        private double acquireMeanMs;
+        private double acquireP99Ms;
+        private double acquireMaxMs;
+        private long timeouts;
+    }
+}
@@ -0,0 +1,33 @@
+package com.soccerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentScheduleResponse {
+    private Long tournamentId;
+    private int matchesCreated;
+    private int matchesUnscheduled;
+    private long totalTimeMs;
+    private long planningTimeMs;
+    private long saveTimeMs;
+    private List<DivisionSchedule> divisions;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DivisionSchedule {
+        private Long divisionId;
+        private String name;
+        private int teams;
+        private int matchesCreated;
+        private List<ScheduleResponse.UnscheduledMatch> unscheduled;
+        private long planningTimeMs;
+        private String skippedReason;
+    }
+}
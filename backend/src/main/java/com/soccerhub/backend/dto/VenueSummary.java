@@ -0,0 +1,14 @@
+package com.soccerhub.backend.dto;
+
+/**
+ * Venue as returned by the venue listing, selected without hydrating the
+ * Venue entity or reading its audit timestamps.
+ */
+public record VenueSummary(Long id,
+                           String name,
+                           String address,
+                           String city,
+                           Integer capacity,
+                           Long organizationId,
+                           String timeSlots) {
+}
@@ -8,6 +8,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "divisions")
@@ -26,6 +28,21 @@ public class Division {
     @Column(nullable = false)
     private Long tournamentId;
     
+    // Comma separated Tiebreaker names applied, in order, to teams level on points.
+    // Null keeps the default order.
+    @Column(length = 255)
+    private String tiebreakers;
+    
+    // Length of a match including changeover, used to keep venue slots apart.
+    // Null uses the app.schedule.default-match-duration-minutes setting.
+    @Column
+    private Integer matchDurationMinutes;
+    
+    // Decides playoff matches that end level. Null means HIGHER_SEED.
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PlayoffTiebreak playoffTiebreak;
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -33,4 +50,53 @@ public class Division {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    public enum PlayoffTiebreak {
+        // The better seeded team advances
+        HIGHER_SEED,
+        // A penalty shoot-out score must be submitted with the result
+        PENALTIES,
+        // The home team advances
+        HOME_TEAM
+    }
+    
+    public enum Tiebreaker {
+        GOAL_DIFFERENCE,
+        GOALS_FOR,
+        WINS,
+        AWAY_GOALS,
+        HEAD_TO_HEAD_POINTS,
+        HEAD_TO_HEAD_GOAL_DIFFERENCE,
+        HEAD_TO_HEAD_GOALS;
+        
+        public static final List<Tiebreaker> DEFAULT_ORDER = List.of(
+            GOAL_DIFFERENCE, GOALS_FOR, HEAD_TO_HEAD_POINTS, HEAD_TO_HEAD_GOAL_DIFFERENCE,
+            HEAD_TO_HEAD_GOALS, AWAY_GOALS, WINS);
+        
+        public boolean isHeadToHead() {
+            return this == HEAD_TO_HEAD_POINTS || this == HEAD_TO_HEAD_GOAL_DIFFERENCE || this == HEAD_TO_HEAD_GOALS;
+        }
+        
+        public boolean needsMatches() {
+            return isHeadToHead() || this == AWAY_GOALS;
+        }
+        
+        /**
+         * Parses a comma separated list of tiebreaker names. Blank input means
+         * the default order.
+         */
+        public static List<Tiebreaker> parse(String value) {
+            if (value == null || value.isBlank()) {
+                return DEFAULT_ORDER;
+            }
+            List<Tiebreaker> rules = new ArrayList<>();
+            for (String name : value.split(",")) {
+                Tiebreaker rule = valueOf(name.trim().toUpperCase());
+                if (!rules.contains(rule)) {
+                    rules.add(rule);
+                }
+            }
+            return List.copyOf(rules);
+        }
+    }
 }
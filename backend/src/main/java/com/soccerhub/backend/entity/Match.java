@@ -17,16 +17,18 @@ import java.time.LocalDateTime;
 public class Match {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+    @SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
     private Long divisionId;
     
-    @Column(nullable = false)
+    // Null on playoff matches whose teams are still to be decided
+    @Column
     private Long homeTeamId;
     
-    @Column(nullable = false)
+    @Column
     private Long awayTeamId;
     
     @Column
@@ -44,6 +46,35 @@ public class Match {
     @Column(length = 20)
     private String playoffRound;
 
+    @Column
+    private Integer homeSeed;
+
+    @Column
+    private Integer awaySeed;
+
+    // Shoot-out score, only recorded for playoff matches that end level
+    @Column
+    private Integer homePenalties;
+
+    @Column
+    private Integer awayPenalties;
+
+    // Playoff match and side the winner moves to; null for the final
+    @Column
+    private Long nextMatchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 4)
+    private Side nextMatchSide;
+
+    // Third-place match and side the loser of a semifinal moves to
+    @Column
+    private Long loserNextMatchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 4)
+    private Side loserNextMatchSide;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Status status = Status.SCHEDULED;
@@ -62,4 +93,8 @@ public class Match {
     public enum Status {
         SCHEDULED, IN_PROGRESS, COMPLETED, POSTPONED, CANCELLED
     }
+
+    public enum Side {
+        HOME, AWAY
+    }
 }
@@ -8,6 +8,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "venues")
@@ -32,6 +36,15 @@ public class Venue {
     @Column
     private Integer capacity;
     
+    // Owning organization; null makes the venue available to every organization
+    @Column
+    private Long organizationId;
+    
+    // Comma separated HH:mm kick-off times offered every day. Null uses the
+    // app.schedule.default-time-slots setting.
+    @Column(length = 255)
+    private String timeSlots;
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -39,4 +52,28 @@ public class Venue {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    /**
+     * Parses a comma separated list of HH:mm kick-off times into ascending,
+     * distinct times. Blank input yields an empty list.
+     */
+    public static List<LocalTime> parseTimeSlots(String value) {
+        List<LocalTime> slots = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return slots;
+        }
+        for (String time : value.split(",")) {
+            LocalTime slot;
+            try {
+                slot = LocalTime.parse(time.trim());
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid time slot: " + time.trim(), ex);
+            }
+            if (!slots.contains(slot)) {
+                slots.add(slot);
+            }
+        }
+        slots.sort(null);
+        return slots;
+    }
 }
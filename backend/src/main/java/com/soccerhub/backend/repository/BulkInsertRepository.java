@@ -0,0 +1,171 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.entity.Player;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Inserts of bulk imported rows, within the caller's transaction. On
+ * PostgreSQL the rows are sent with COPY; ids of teams and players are then
+ * drawn from their pooled sequences a block of 50 at a time, the same way
+ * Hibernate draws them, so both stay in step. Other databases get the rows
+ * persisted in JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    // Increment of the pooled id sequences; see the V4 migrations
+    private static final int SEQUENCE_BLOCK = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    private volatile Boolean copySupported;
+
+    /**
+     * Whether inserts go through PostgreSQL COPY.
+     */
+    public boolean isCopySupported() {
+        Boolean supported = copySupported;
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.isWrapperFor(PGConnection.class));
+            copySupported = supported;
+        }
+        return Boolean.TRUE.equals(supported);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertTeams(List<Team> teams) {
+        if (!isCopySupported()) {
+            persistAll(teams);
+            return;
+        }
+        assignIds(teams, "teams_seq", Team::setId);
+        copy("COPY teams (id, name, division_id, logo, created_at, updated_at) FROM STDIN WITH (FORMAT csv)",
+            teams, team -> new Object[] {team.getId(), team.getName(), team.getDivisionId(), team.getLogo()});
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertPlayers(List<Player> players) {
+        if (!isCopySupported()) {
+            persistAll(players);
+            return;
+        }
+        assignIds(players, "players_seq", Player::setId);
+        copy("COPY players (id, first_name, last_name, team_id, jersey_number, position, created_at, updated_at) "
+                + "FROM STDIN WITH (FORMAT csv)",
+            players, player -> new Object[] {player.getId(), player.getFirstName(), player.getLastName(),
+                player.getTeamId(), player.getJerseyNumber(), player.getPosition()});
+    }
+
+    /**
+     * Venues keep IDENTITY keys, so outside PostgreSQL they are inserted one
+     * statement at a time; imports of venues are small.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertVenues(List<Venue> venues) {
+        if (!isCopySupported()) {
+            persistAll(venues);
+            return;
+        }
+        copy("COPY venues (name, address, city, capacity, organization_id, time_slots, created_at, updated_at) "
+                + "FROM STDIN WITH (FORMAT csv)",
+            venues, venue -> new Object[] {venue.getName(), venue.getAddress(), venue.getCity(), venue.getCapacity(),
+                venue.getOrganizationId(), venue.getTimeSlots()});
+    }
+
+    /**
+     * Persists in JDBC batches and detaches each batch once written. Only
+     * the inserted rows are detached; the caller's other entities stay
+     * managed.
+     */
+    private void persistAll(List<?> entities) {
+        int flushed = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                detachBatch(entities.subList(flushed, i + 1));
+                flushed = i + 1;
+            }
+        }
+        detachBatch(entities.subList(flushed, entities.size()));
+    }
+
+    private void detachBatch(List<?> batch) {
+        entityManager.flush();
+        for (Object entity : batch) {
+            entityManager.detach(entity);
+        }
+    }
+
+    /**
+     * Hibernate takes every value of a pooled sequence as the top of a block
+     * of ids; the imported rows claim whole blocks the same way.
+     */
+    private <T> void assignIds(List<T> rows, String sequence, BiConsumer<T, Long> setId) {
+        int blocks = (rows.size() + SEQUENCE_BLOCK - 1) / SEQUENCE_BLOCK;
+        List<Long> tops = jdbcTemplate.queryForList(
+            "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+        for (int i = 0; i < rows.size(); i++) {
+            long top = tops.get(i / SEQUENCE_BLOCK);
+            setId.accept(rows.get(i), top - SEQUENCE_BLOCK + 1 + i % SEQUENCE_BLOCK);
+        }
+    }
+
+    /**
+     * Sends the rows as CSV, each followed by created_at and updated_at.
+     * Null becomes an unquoted empty field, which COPY reads as NULL.
+     */
+    private <T> void copy(String sql, List<T> rows, Function<T, Object[]> columns) {
+        String now = LocalDateTime.now().toString();
+        StringBuilder data = new StringBuilder(rows.size() * 80);
+        for (T row : rows) {
+            for (Object value : columns.apply(row)) {
+                if (value instanceof String text) {
+                    data.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    data.append(value);
+                }
+                data.append(',');
+            }
+            data.append(now).append(',').append(now).append('\n');
+        }
+        byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+        jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            CopyIn copyIn = con.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                return copyIn.endCopy();
+            } catch (SQLException ex) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw ex;
+            }
+        });
+    }
+}
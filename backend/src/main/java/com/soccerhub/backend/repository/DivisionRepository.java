@@ -2,11 +2,33 @@ package com.soccerhub.backend.repository;
 
 import com.soccerhub.backend.entity.Division;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DivisionRepository extends JpaRepository<Division, Long> {
-    List<Division> findByTournamentId(Long tournamentId);
+public interface DivisionRepository extends JpaRepository<Division, Long>, JpaSpecificationExecutor<Division> {
+    /**
+     * Ids of the divisions matching every given filter; a null filter matches
+     * all. Binds :organizationId, :tournamentId and :divisionId, and is used
+     * as a subquery by the exports.
+     */
+    String EXPORT_SCOPE = "SELECT d.id FROM Division d JOIN Tournament t ON t.id = d.tournamentId " +
+                          "WHERE (:organizationId IS NULL OR t.organizationId = :organizationId) " +
+                          "AND (:tournamentId IS NULL OR d.tournamentId = :tournamentId) " +
+                          "AND (:divisionId IS NULL OR d.id = :divisionId)";
+
+    List<Division> findByTournamentIdOrderById(Long tournamentId);
+
+    @Query(EXPORT_SCOPE + " ORDER BY d.id")
+    List<Long> findExportScope(@Param("organizationId") Long organizationId,
+                               @Param("tournamentId") Long tournamentId,
+                               @Param("divisionId") Long divisionId);
+
+    @Query("SELECT d.id FROM Division d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,31 @@
+package com.soccerhub.backend.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification building blocks shared by the paginated listings. Every
+ * factory returns null for a null argument, which Specification.where/and
+ * treat as "no restriction", so optional filters can be chained directly.
+ */
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    public static <T> Specification<T> attributeEquals(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * Rows after the given id, for listings ordered by id alone.
+     */
+    public static <T> Specification<T> idAfter(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
@@ -1,16 +1,78 @@
 package com.soccerhub.backend.repository;
 
+import com.soccerhub.backend.dto.MatchBooking;
+import com.soccerhub.backend.dto.MatchScore;
+import com.soccerhub.backend.dto.MatchSummary;
 import com.soccerhub.backend.entity.Match;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface MatchRepository extends JpaRepository<Match, Long> {
-    List<Match> findByDivisionId(Long divisionId);
-    List<Match> findByHomeTeamIdOrAwayTeamId(Long homeTeamId, Long awayTeamId);
-    void deleteByDivisionIdAndStatus(Long divisionId, Match.Status status);
+public interface MatchRepository extends JpaRepository<Match, Long>, JpaSpecificationExecutor<Match>,
+        MatchRepositoryCustom {
+    // League matches only: playoff matches have a playoff round and belong to the bracket
+    void deleteByDivisionIdAndStatusAndPlayoffRoundIsNull(Long divisionId, Match.Status status);
+    void deleteByDivisionIdInAndStatusAndPlayoffRoundIsNull(Collection<Long> divisionIds, Match.Status status);
     void deleteByDivisionIdAndPlayoffRoundIsNotNull(Long divisionId);
-    List<Match> findByDivisionIdAndPlayoffRound(Long divisionId, String playoffRound);
+    List<Match> findByDivisionIdInOrderById(Collection<Long> divisionIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.id = :id")
+    Optional<Match> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.id IN :ids ORDER BY m.id")
+    List<Match> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.soccerhub.backend.dto.MatchScore(m.homeTeamId, m.awayTeamId, m.homeScore, m.awayScore) " +
+           "FROM Match m WHERE m.divisionId = :divisionId AND m.status = :status " +
+           "AND m.playoffRound IS NULL AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL")
+    Stream<MatchScore> streamLeagueScores(@Param("divisionId") Long divisionId, @Param("status") Match.Status status);
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.soccerhub.backend.dto.MatchSummary(m.id, m.divisionId, m.homeTeamId, m.awayTeamId, " +
+           "m.homeSeed, m.awaySeed, m.venueId, m.matchDate, m.homeScore, m.awayScore, m.homePenalties, " +
+           "m.awayPenalties, m.playoffRound, m.status, m.refereeId) " +
+           "FROM Match m WHERE m.divisionId IN (" + DivisionRepository.EXPORT_SCOPE + ") " +
+           "ORDER BY m.divisionId, m.matchDate, m.id")
+    Stream<MatchSummary> streamForExport(@Param("organizationId") Long organizationId,
+                                         @Param("tournamentId") Long tournamentId,
+                                         @Param("divisionId") Long divisionId);
+
+    /**
+     * Matches in [from, to) that occupy one of the venues or a team of the
+     * divisions, with the match length of their own division.
+     */
+    @Query("SELECT new com.soccerhub.backend.dto.MatchBooking(m.venueId, m.homeTeamId, m.awayTeamId, m.matchDate, d.matchDurationMinutes) " +
+           "FROM Match m LEFT JOIN Division d ON d.id = m.divisionId " +
+           "WHERE m.matchDate >= :from AND m.matchDate < :to AND m.status NOT IN :released " +
+           "AND (m.venueId IN :venueIds OR m.divisionId IN :divisionIds)")
+    List<MatchBooking> findBookings(@Param("venueIds") Collection<Long> venueIds,
+                                    @Param("divisionIds") Collection<Long> divisionIds,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("released") Collection<Match.Status> released);
 }
@@ -0,0 +1,42 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.dto.TeamFixture;
+import com.soccerhub.backend.entity.Match;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MatchRepositoryCustom {
+
+    /**
+     * Persists new matches in JDBC batches, flushing after every batch and
+     * detaching its matches so memory stays flat for large schedules. Other
+     * entities of the surrounding transaction stay managed. Returns the
+     * matches with their ids assigned; they are detached, so later changes
+     * to them need a save.
+     */
+    List<Match> insertAll(Collection<Match> matches);
+
+    /**
+     * Rewrites the team_fixtures rows of saved matches whose teams or date
+     * may have changed. Flushes first, so the matches exist when their rows
+     * are written. Deleted matches need no call; their rows cascade.
+     */
+    void syncFixtures(Collection<Match> matches);
+
+    /**
+     * Writes the bracket links (next match and loser's next match with their
+     * sides) of saved matches in one JDBC batch, without loading them.
+     */
+    void updateBracketLinks(Collection<Match> matches);
+
+    /**
+     * One page of a team's fixtures in (matchDate, matchId) order, read from
+     * team_fixtures. from/to bound the match date (to exclusive) and
+     * afterDate/afterMatchId continue after the last fixture of the
+     * previous page; all of them may be null.
+     */
+    List<TeamFixture> findTeamFixtures(Long teamId, LocalDateTime from, LocalDateTime to,
+                                       LocalDateTime afterDate, Long afterMatchId, int limit);
+}
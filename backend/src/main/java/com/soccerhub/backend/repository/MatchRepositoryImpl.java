@@ -0,0 +1,169 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.dto.TeamFixture;
+import com.soccerhub.backend.entity.Match;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MatchRepositoryImpl implements MatchRepositoryCustom {
+
+    private static final String DELETE_FIXTURES = "DELETE FROM team_fixtures WHERE match_id = ?";
+
+    private static final String UPDATE_BRACKET_LINKS =
+        "UPDATE matches SET next_match_id = ?, next_match_side = ?, loser_next_match_id = ?, " +
+        "loser_next_match_side = ? WHERE id = ?";
+
+    private static final String INSERT_FIXTURE =
+        "INSERT INTO team_fixtures (team_id, match_date, match_id, home) VALUES (?, ?, ?, ?)";
+
+    // The opponent is whichever side of the match the team is not on
+    private static final String SELECT_FIXTURES =
+        "SELECT f.match_id, f.match_date, f.home, m.division_id, m.playoff_round, m.status, " +
+        "m.home_score, m.away_score, m.venue_id, o.id AS opponent_id, o.name AS opponent_name, " +
+        "v.name AS venue_name, v.city AS venue_city " +
+        "FROM team_fixtures f " +
+        "JOIN matches m ON m.id = f.match_id " +
+        "LEFT JOIN teams o ON o.id = CASE WHEN f.home THEN m.away_team_id ELSE m.home_team_id END " +
+        "LEFT JOIN venues v ON v.id = m.venue_id " +
+        "WHERE f.team_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public List<Match> insertAll(Collection<Match> matches) {
+        List<Match> inserted = new ArrayList<>(matches.size());
+        int fixturesWritten = 0;
+        for (Match match : matches) {
+            entityManager.persist(match);
+            inserted.add(match);
+            if (inserted.size() % batchSize == 0) {
+                flushBatch(inserted.subList(fixturesWritten, inserted.size()));
+                fixturesWritten = inserted.size();
+            }
+        }
+        flushBatch(inserted.subList(fixturesWritten, inserted.size()));
+        return inserted;
+    }
+
+    /**
+     * Writes the batch and detaches its matches, and only those: other
+     * entities the caller has loaded in the transaction stay managed.
+     */
+    private void flushBatch(List<Match> batch) {
+        entityManager.flush();
+        for (Match match : batch) {
+            entityManager.detach(match);
+        }
+        insertFixtures(batch);
+    }
+
+    @Override
+    @Transactional
+    public void syncFixtures(Collection<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(DELETE_FIXTURES, matches.stream()
+            .map(match -> new Object[] {match.getId()})
+            .toList());
+        insertFixtures(matches);
+    }
+
+    @Override
+    @Transactional
+    public void updateBracketLinks(Collection<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BRACKET_LINKS, matches.stream()
+            .map(match -> new Object[] {match.getNextMatchId(), sideName(match.getNextMatchSide()),
+                match.getLoserNextMatchId(), sideName(match.getLoserNextMatchSide()), match.getId()})
+            .toList());
+    }
+
+    @Override
+    public List<TeamFixture> findTeamFixtures(Long teamId, LocalDateTime from, LocalDateTime to,
+                                              LocalDateTime afterDate, Long afterMatchId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_FIXTURES);
+        List<Object> args = new ArrayList<>();
+        args.add(teamId);
+        if (from != null) {
+            sql.append(" AND f.match_date >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND f.match_date < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (afterDate != null) {
+            sql.append(" AND (f.match_date > ? OR (f.match_date = ? AND f.match_id > ?))");
+            args.add(Timestamp.valueOf(afterDate));
+            args.add(Timestamp.valueOf(afterDate));
+            args.add(afterMatchId);
+        }
+        sql.append(" ORDER BY f.match_date, f.match_id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), MatchRepositoryImpl::fixture, args.toArray());
+    }
+
+    private void insertFixtures(Collection<Match> matches) {
+        List<Object[]> rows = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            Timestamp matchDate = Timestamp.valueOf(match.getMatchDate());
+            if (match.getHomeTeamId() != null) {
+                rows.add(new Object[] {match.getHomeTeamId(), matchDate, match.getId(), true});
+            }
+            if (match.getAwayTeamId() != null) {
+                rows.add(new Object[] {match.getAwayTeamId(), matchDate, match.getId(), false});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_FIXTURE, rows);
+        }
+    }
+
+    private static String sideName(Match.Side side) {
+        return side == null ? null : side.name();
+    }
+
+    private static TeamFixture fixture(ResultSet rs, int rowNum) throws SQLException {
+        boolean home = rs.getBoolean("home");
+        Integer homeScore = rs.getObject("home_score", Integer.class);
+        Integer awayScore = rs.getObject("away_score", Integer.class);
+        return new TeamFixture(
+            rs.getLong("match_id"),
+            rs.getTimestamp("match_date").toLocalDateTime(),
+            home,
+            rs.getLong("division_id"),
+            rs.getString("playoff_round"),
+            Match.Status.valueOf(rs.getString("status")),
+            rs.getObject("opponent_id", Long.class),
+            rs.getString("opponent_name"),
+            rs.getObject("venue_id", Long.class),
+            rs.getString("venue_name"),
+            rs.getString("venue_city"),
+            home ? homeScore : awayScore,
+            home ? awayScore : homeScore);
+    }
+}
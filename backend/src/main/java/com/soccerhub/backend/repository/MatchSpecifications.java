@@ -0,0 +1,86 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+import static com.soccerhub.backend.repository.KeysetSpecifications.attributeEquals;
+
+/**
+ * Filters of the match listing. Like {@link KeysetSpecifications}, every
+ * factory returns null when its argument is null.
+ */
+public final class MatchSpecifications {
+
+    private MatchSpecifications() {
+    }
+
+    public static Specification<Match> inDivision(Long divisionId) {
+        return attributeEquals("divisionId", divisionId);
+    }
+
+    public static Specification<Match> atVenue(Long venueId) {
+        return attributeEquals("venueId", venueId);
+    }
+
+    public static Specification<Match> hasStatus(Match.Status status) {
+        return attributeEquals("status", status);
+    }
+
+    public static Specification<Match> inPlayoffRound(String playoffRound) {
+        return attributeEquals("playoffRound", playoffRound);
+    }
+
+    public static Specification<Match> involvingTeam(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.equal(root.get("homeTeamId"), teamId),
+            cb.equal(root.get("awayTeamId"), teamId));
+    }
+
+    public static Specification<Match> inTournament(Long tournamentId) {
+        if (tournamentId == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> divisions = query.subquery(Long.class);
+            var division = divisions.from(Division.class);
+            divisions.select(division.get("id"))
+                .where(cb.equal(division.get("tournamentId"), tournamentId));
+            return root.get("divisionId").in(divisions);
+        };
+    }
+
+    public static Specification<Match> playedFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("matchDate"), from);
+    }
+
+    public static Specification<Match> playedBefore(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("matchDate"), to);
+    }
+
+    /**
+     * Matches strictly after (matchDate, id) in the listing order.
+     */
+    public static Specification<Match> after(LocalDateTime matchDate, Long id) {
+        if (matchDate == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.greaterThan(root.get("matchDate"), matchDate),
+            cb.and(
+                cb.equal(root.get("matchDate"), matchDate),
+                cb.greaterThan(root.get("id"), id)));
+    }
+}
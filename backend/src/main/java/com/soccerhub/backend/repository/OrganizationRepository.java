@@ -2,8 +2,16 @@ package com.soccerhub.backend.repository;
 
 import com.soccerhub.backend.entity.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+
+    @Query("SELECT o.id FROM Organization o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,12 +1,41 @@
 package com.soccerhub.backend.repository;
 
+import com.soccerhub.backend.dto.JerseyNumber;
+import com.soccerhub.backend.dto.PlayerSummary;
 import com.soccerhub.backend.entity.Player;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
-    List<Player> findByTeamId(Long teamId);
+public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
+    List<Player> findByTeamIdIn(Collection<Long> teamIds);
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.soccerhub.backend.dto.PlayerSummary(p.id, p.firstName, p.lastName, p.teamId, " +
+           "p.jerseyNumber, p.position) " +
+           "FROM Player p JOIN Team t ON t.id = p.teamId " +
+           "WHERE t.divisionId IN (" + DivisionRepository.EXPORT_SCOPE + ") " +
+           "ORDER BY p.teamId, p.id")
+    Stream<PlayerSummary> streamForExport(@Param("organizationId") Long organizationId,
+                                          @Param("tournamentId") Long tournamentId,
+                                          @Param("divisionId") Long divisionId);
+
+    @Query("SELECT new com.soccerhub.backend.dto.JerseyNumber(p.teamId, p.jerseyNumber) " +
+           "FROM Player p WHERE p.teamId IN :teamIds")
+    List<JerseyNumber> findJerseyNumbers(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -0,0 +1,76 @@
+package com.soccerhub.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listings that select only the columns of a projection record instead of
+ * whole entities. The record's component names are the entity attributes to
+ * select, in the order of its canonical constructor. Results are plain
+ * records: they never enter the persistence context, so there are no entity
+ * snapshots and no dirty checking, and unneeded columns such as the audit
+ * timestamps are not read at all.
+ */
+@Repository
+public class ProjectionQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <T, R extends Record> List<R> findAll(Class<T> entityType, Class<R> projection,
+                                                 Specification<T> spec, Sort sort, int limit) {
+        return findAll(entityManager, entityType, projection, spec, sort, limit);
+    }
+
+    /**
+     * Runs the projection on the given entity manager; used directly where
+     * there is no Spring context, e.g. by the benchmarks.
+     */
+    public static <T, R extends Record> List<R> findAll(EntityManager entityManager, Class<T> entityType,
+                                                        Class<R> projection, Specification<T> spec,
+                                                        Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(projection);
+        Root<T> root = query.from(entityType);
+
+        RecordComponent[] components = projection.getRecordComponents();
+        Selection<?>[] selections = new Selection<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            selections[i] = root.get(components[i].getName());
+        }
+        query.select(cb.construct(projection, selections));
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending()
+                ? cb.asc(root.get(order.getProperty()))
+                : cb.desc(root.get(order.getProperty())));
+        }
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
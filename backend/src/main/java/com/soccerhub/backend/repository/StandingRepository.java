@@ -2,13 +2,17 @@ package com.soccerhub.backend.repository;
 
 import com.soccerhub.backend.entity.Standing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StandingRepository extends JpaRepository<Standing, Long> {
+public interface StandingRepository extends JpaRepository<Standing, Long>, StandingRepositoryCustom {
     List<Standing> findByDivisionIdOrderByPointsDescGoalDifferenceDesc(Long divisionId);
     Optional<Standing> findByDivisionIdAndTeamId(Long divisionId, Long teamId);
+
+    @Query("SELECT DISTINCT s.divisionId FROM Standing s")
+    List<Long> findDistinctDivisionIds();
 }
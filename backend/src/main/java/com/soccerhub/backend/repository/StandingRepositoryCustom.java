@@ -0,0 +1,15 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.dto.StandingDelta;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StandingRepositoryCustom {
+
+    /**
+     * Creates missing rows and increments the counters of every team in one
+     * JDBC batch each. Returns the ids of the teams whose row was created.
+     */
+    List<Long> applyDeltas(Long divisionId, Collection<StandingDelta> deltas);
+}
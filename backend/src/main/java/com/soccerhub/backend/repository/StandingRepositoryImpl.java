@@ -0,0 +1,80 @@
+package com.soccerhub.backend.repository;
+
+import com.soccerhub.backend.dto.StandingDelta;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StandingRepositoryImpl implements StandingRepositoryCustom {
+
+    // Insert in one statement that skips an existing row, rather than a check and an insert
+    // two flushes can both pass; only the inserted rows are counted
+    private static final String INSERT_IF_ABSENT_POSTGRESQL =
+        "INSERT INTO standings (division_id, team_id, played, won, drawn, lost, goals_for, " +
+        "goals_against, goal_difference, points, created_at, updated_at) " +
+        "VALUES (?, ?, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (division_id, team_id) DO NOTHING";
+
+    private static final String INSERT_IF_ABSENT_H2 =
+        "MERGE INTO standings s USING (SELECT CAST(? AS BIGINT) AS division_id, CAST(? AS BIGINT) AS team_id) n " +
+        "ON s.division_id = n.division_id AND s.team_id = n.team_id " +
+        "WHEN NOT MATCHED THEN INSERT (division_id, team_id, played, won, drawn, lost, goals_for, " +
+        "goals_against, goal_difference, points, created_at, updated_at) " +
+        "VALUES (n.division_id, n.team_id, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private static final String APPLY_DELTA =
+        "UPDATE standings SET played = played + ?, won = won + ?, drawn = drawn + ?, lost = lost + ?, " +
+        "goals_for = goals_for + ?, goals_against = goals_against + ?, " +
+        "goal_difference = goal_difference + ?, points = points + ?, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE division_id = ? AND team_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String insertIfAbsentSql;
+
+    @Override
+    public List<Long> applyDeltas(Long divisionId, Collection<StandingDelta> deltas) {
+        List<StandingDelta> rows = List.copyOf(deltas);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (StandingDelta delta : rows) {
+            inserts.add(new Object[] {divisionId, delta.teamId()});
+            updates.add(new Object[] {
+                delta.played(), delta.won(), delta.drawn(), delta.lost(),
+                delta.goalsFor(), delta.goalsAgainst(), delta.goalDifference(), delta.points(),
+                divisionId, delta.teamId()
+            });
+        }
+
+        int[] inserted = jdbcTemplate.batchUpdate(insertIfAbsent(), inserts);
+        jdbcTemplate.batchUpdate(APPLY_DELTA, updates);
+
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] > 0) {
+                created.add(rows.get(i).teamId());
+            }
+        }
+        return created;
+    }
+
+    private String insertIfAbsent() {
+        String sql = insertIfAbsentSql;
+        if (sql == null) {
+            Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.isWrapperFor(PGConnection.class));
+            sql = Boolean.TRUE.equals(postgres) ? INSERT_IF_ABSENT_POSTGRESQL : INSERT_IF_ABSENT_H2;
+            insertIfAbsentSql = sql;
+        }
+        return sql;
+    }
+}
@@ -2,11 +2,19 @@ package com.soccerhub.backend.repository;
 
 import com.soccerhub.backend.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificationExecutor<Team> {
     List<Team> findByDivisionId(Long divisionId);
+    List<Team> findByDivisionIdIn(Collection<Long> divisionIds);
+
+    @Query("SELECT t.id FROM Team t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -2,8 +2,20 @@ package com.soccerhub.backend.repository;
 
 import com.soccerhub.backend.entity.Venue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface VenueRepository extends JpaRepository<Venue, Long> {
+public interface VenueRepository extends JpaRepository<Venue, Long>, JpaSpecificationExecutor<Venue> {
+    // A null organizationId matches shared venues only
+    Optional<Venue> findFirstByNameAndAddressAndCityAndOrganizationIdOrderById(String name, String address, String city,
+                                                                               Long organizationId);
+
+    @Query("SELECT v FROM Venue v WHERE v.organizationId = :organizationId OR v.organizationId IS NULL ORDER BY v.id")
+    List<Venue> findAvailableToOrganization(@Param("organizationId") Long organizationId);
 }
@@ -1,5 +1,8 @@
 package com.soccerhub.backend.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,46 +18,60 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.lang.NonNull;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    private static final String TIMER = "soccerhub.auth.jwt";
+    
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
     
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // Times token verification and the principal lookup, not the rest of the request
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // Signature and expiry are verified once, here
+                outcome = "rejected";
+                Claims claims = tokenProvider.parseToken(jwt);
+                String username = claims.getSubject();
                 if (username != null) {
                     username = username.trim();
                 }
                 try {
                     if (username != null && !username.isEmpty()) {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                        // Served from the principal cache; the users table is only read on a miss
+                        UserDetailsImpl userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
 
-                        UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        if (rolesMatch(claims, userDetails)) {
+                            UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                            SecurityContextHolder.getContext().setAuthentication(authentication);
+                            outcome = "authenticated";
+                        } else {
+                            // Role changed since the token was issued - the user has to log in again
+                            logger.debug("Ignoring JWT with outdated roles for user: " + username);
+                        }
                     } else {
                         // No username in token (malformed) - trace log only
                         logger.trace("JWT token did not contain a subject (username)");
                     }
                 } catch (UsernameNotFoundException ex) {
                     // User referenced by the token doesn't exist in DB (e.g. token forged or user deleted).
-<<<<<<< HEAD
                     // Log at TRACE to avoid noisy output in normal operation.
                     logger.trace("User from JWT not found: " + username);
-=======
-                    // Continue without authentication and without noisy logging.
->>>>>>> 88f390541652dc24afa3321db0db2513a58a7883
                 }
             }
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException ex) {
@@ -64,11 +80,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception ex) {
             // Any other unexpected exception should be logged as error
             logger.error("Could not set user authentication in security context", ex);
+            outcome = "error";
         }
+        sample.stop(Timer.builder(TIMER).tag("outcome", outcome).register(meterRegistry));
         
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Tokens issued before roles were embedded carry no roles claim and are
+     * accepted with the user's current roles until they expire.
+     */
+    private boolean rolesMatch(Claims claims, UserDetailsImpl userDetails) {
+        Object roles = claims.get(JwtTokenProvider.ROLES_CLAIM);
+        if (!(roles instanceof List<?> tokenRoles)) {
+            return true;
+        }
+        List<String> currentRoles = JwtTokenProvider.roleNames(userDetails);
+        return tokenRoles.size() == currentRoles.size() && tokenRoles.containsAll(currentRoles);
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -5,15 +5,20 @@ import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtTokenProvider {
     
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    
     @Value("${app.jwt.secret:mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong12345678}")
     private String jwtSecret;
     
@@ -22,9 +27,13 @@ public class JwtTokenProvider {
     
     private SecretKey key;
     
+    // Immutable and thread-safe, so one instance serves every request
+    private JwtParser parser;
+    
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
     
     public String generateToken(Authentication authentication) {
@@ -35,29 +44,40 @@ public class JwtTokenProvider {
         
         return Jwts.builder()
                 .subject(userPrincipal.getUsername())
+                .claim(USER_ID_CLAIM, userPrincipal.getId())
+                .claim(ROLES_CLAIM, roleNames(userPrincipal))
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
     
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     * Throws JwtException or IllegalArgumentException for invalid tokens.
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+    
     public String getUsernameFromToken(String token) {
-        // Use the parser style that matches project's jjwt usage
-        String subject = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        String subject = parseToken(token).getSubject();
         return (subject == null) ? null : subject.trim();
     }
     
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(authToken);
+            parseToken(authToken);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+    
+    public static List<String> roleNames(UserDetailsImpl principal) {
+        return principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+    }
 }
@@ -0,0 +1,41 @@
+package com.soccerhub.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of authenticated principals by username, so
+ * requests carrying a token do not query the users table. Entries are evicted
+ * when the user row changes (see UserCacheInvalidationListener); the TTL only
+ * bounds how long changes made outside the application can go unnoticed.
+ */
+@Component
+public class PrincipalCache {
+    
+    private final Cache<String, UserDetailsImpl> principals;
+    
+    public PrincipalCache(@Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+    
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return principals.get(username, loader);
+    }
+    
+    public void evictUser(Long userId) {
+        principals.asMap().values().removeIf(principal -> principal.getId().equals(userId));
+    }
+    
+    public void evictAll() {
+        principals.invalidateAll();
+    }
+}
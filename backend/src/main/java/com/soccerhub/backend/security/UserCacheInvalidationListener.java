@@ -0,0 +1,37 @@
+package com.soccerhub.backend.security;
+
+import com.soccerhub.backend.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts a user's cached principal whenever the user row is updated or
+ * deleted, e.g. after a role or password change. The entry is evicted again
+ * after commit so a request that reloaded the old row in between does not
+ * keep it cached.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+    
+    private final PrincipalCache principalCache;
+    
+    @PostUpdate
+    @PostRemove
+    public void userChanged(User user) {
+        Long userId = user.getId();
+        principalCache.evictUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principalCache.evictUser(userId);
+                }
+            });
+        }
+    }
+}
@@ -24,6 +24,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final HotPathMetrics metrics;
     
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -55,6 +56,10 @@ public class AuthService {
     }
     
     public AuthResponse login(LoginRequest request) {
+        return metrics.time("soccerhub.auth.login", () -> authenticate(request));
+    }
+    
+    private AuthResponse authenticate(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
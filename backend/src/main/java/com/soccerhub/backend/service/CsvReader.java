@@ -0,0 +1,138 @@
+package com.soccerhub.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of RFC 4180 CSV: fields may be quoted, and quoted fields
+ * may contain commas, doubled quotes and line breaks. Only the current
+ * record is held in memory. A leading UTF-8 byte order mark is skipped.
+ */
+final class CsvReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FIELD_LENGTH = 4_096;
+
+    private final Reader reader;
+    private int pushedBack = -2;
+    private long line = 1;
+    private long recordLine;
+
+    CsvReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Line the last record returned by {@link #next()} starts on.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Fields of the next record, or null at the end of the input.
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (line == 1 && recordLine == 0 && c == '\uFEFF') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == '"' && field.length() == 0 && !quoted) {
+                quoted = true;
+                readQuoted(field);
+                c = read();
+                if (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                    throw new MalformedCsvException(line, "Unexpected character after closing quote");
+                }
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        long startLine = line;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new MalformedCsvException(startLine, "Quoted field is not closed");
+            }
+            if (c == '"') {
+                int following = read();
+                if (following != '"') {
+                    pushedBack = following;
+                    return;
+                }
+            } else if (c == '\n') {
+                line++;
+            }
+            append(field, c);
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new MalformedCsvException(recordLine, "Field is longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append((char) c);
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Input that cannot be split into records; reading cannot continue after it.
+     */
+    static class MalformedCsvException extends RuntimeException {
+
+        private final long line;
+
+        MalformedCsvException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        long getLine() {
+            return line;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.soccerhub.backend.service;
 
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.dto.MatchBooking;
+import com.soccerhub.backend.dto.ScheduleResponse;
+import com.soccerhub.backend.dto.TournamentScheduleResponse;
 import com.soccerhub.backend.entity.Division;
 import com.soccerhub.backend.entity.Match;
 import com.soccerhub.backend.entity.Standing;
@@ -10,35 +14,62 @@ import com.soccerhub.backend.exception.BadRequestException;
 import com.soccerhub.backend.exception.ResourceNotFoundException;
 import com.soccerhub.backend.repository.DivisionRepository;
 import com.soccerhub.backend.repository.MatchRepository;
-import com.soccerhub.backend.repository.StandingRepository;
 import com.soccerhub.backend.repository.TeamRepository;
 import com.soccerhub.backend.repository.TournamentRepository;
 import com.soccerhub.backend.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import static com.soccerhub.backend.repository.KeysetSpecifications.attributeEquals;
+import static com.soccerhub.backend.repository.KeysetSpecifications.idAfter;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DivisionService {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    // Matches inserted between two progress reports of a generation
+    private static final int SAVE_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_PLAYOFF_TEAMS = 4;
+    private static final int MAX_PLAYOFF_TEAMS = 64;
+    
     private final DivisionRepository divisionRepository;
     private final TeamRepository teamRepository;
     private final VenueRepository venueRepository;
     private final TournamentRepository tournamentRepository;
     private final MatchRepository matchRepository;
-    private final MatchService matchService;
-    private final StandingRepository standingRepository;
+    private final StandingService standingService;
+    private final MatchScheduler matchScheduler;
+    private final HotPathMetrics metrics;
     
-    public List<Division> getAllDivisions() {
-        return divisionRepository.findAll();
+    /**
+     * Lists divisions in id order, one keyset page at a time.
+     */
+    public CursorPage<Division> findDivisions(Long tournamentId, String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<Division> spec = Specification.<Division>where(attributeEquals("tournamentId", tournamentId))
+            .and(idAfter(KeysetPaging.decodeId(cursor)));
+        List<Division> rows = divisionRepository.findBy(spec, query -> query
+            .sortBy(Sort.by("id"))
+            .limit(size + 1)
+            .all());
+        return KeysetPaging.page(rows, size, division -> KeysetPaging.encode(division.getId()));
     }
     
     public Division getDivisionById(Long id) {
@@ -46,31 +77,69 @@ public class DivisionService {
             .orElseThrow(() -> new ResourceNotFoundException("Division not found with id: " + id));
     }
     
-    public List<Division> getDivisionsByTournamentId(Long tournamentId) {
-        return divisionRepository.findByTournamentId(tournamentId);
-    }
-    
     @Transactional
     public Division createDivision(Division division) {
+        division.setTiebreakers(normalizeTiebreakers(division.getTiebreakers()));
+        validateMatchDuration(division.getMatchDurationMinutes());
         return divisionRepository.save(division);
     }
     
     @Transactional
     public Division updateDivision(Long id, Division divisionDetails) {
         Division division = getDivisionById(id);
+        // Omitted tiebreakers keep the current ones; an empty string restores the default order
+        String tiebreakers = divisionDetails.getTiebreakers() == null
+            ? division.getTiebreakers()
+            : normalizeTiebreakers(divisionDetails.getTiebreakers());
+        boolean rankingChanged = !Objects.equals(tiebreakers, division.getTiebreakers());
         division.setName(divisionDetails.getName());
         division.setTournamentId(divisionDetails.getTournamentId());
-        return divisionRepository.save(division);
+        division.setTiebreakers(tiebreakers);
+        // Omitted match duration keeps the current one
+        if (divisionDetails.getMatchDurationMinutes() != null) {
+            validateMatchDuration(divisionDetails.getMatchDurationMinutes());
+            division.setMatchDurationMinutes(divisionDetails.getMatchDurationMinutes());
+        }
+        // Omitted playoff tiebreak keeps the current one
+        if (divisionDetails.getPlayoffTiebreak() != null) {
+            division.setPlayoffTiebreak(divisionDetails.getPlayoffTiebreak());
+        }
+        Division saved = divisionRepository.save(division);
+        if (rankingChanged) {
+            standingService.rankingChanged(id);
+        }
+        return saved;
     }
     
     @Transactional
     public void deleteDivision(Long id) {
         Division division = getDivisionById(id);
         divisionRepository.delete(division);
+        standingService.divisionDeleted(id);
+    }
+
+    /**
+     * Replaces the division's scheduled matches with a round robin placed
+     * into the time slots of the organization's venues. Slots held by other
+     * matches stay untouched; matches that find no slot are returned as
+     * unscheduled instead of being double-booked.
+     */
+    @Transactional
+    public ScheduleResponse generateSchedule(Long divisionId, boolean doubleRoundRobin) {
+        return generateSchedule(divisionId, doubleRoundRobin, ScheduleProgress.NONE);
     }
 
+    /**
+     * Generates the schedule reporting progress, which may cancel the
+     * generation by throwing from a report.
+     */
     @Transactional
-    public List<Match> generateSchedule(Long divisionId) {
+    public ScheduleResponse generateSchedule(Long divisionId, boolean doubleRoundRobin, ScheduleProgress progress) {
+        return metrics.time("soccerhub.schedule.generate",
+            () -> scheduleDivision(divisionId, doubleRoundRobin, progress), "division", divisionId);
+    }
+
+    private ScheduleResponse scheduleDivision(Long divisionId, boolean doubleRoundRobin, ScheduleProgress progress) {
         Division division = getDivisionById(divisionId);
         List<Team> teams = teamRepository.findByDivisionId(divisionId);
         if (teams.size() < 2) {
@@ -85,46 +154,182 @@ public class DivisionService {
             throw new BadRequestException("Tournament end date must be on or after the start date");
         }
 
-        matchRepository.deleteByDivisionIdAndStatus(divisionId, Match.Status.SCHEDULED);
+        // Every match needs a venue slot, so without venues the existing schedule is kept
+        List<Venue> venues = venueRepository.findAvailableToOrganization(tournament.getOrganizationId());
+        if (venues.isEmpty()) {
+            throw new BadRequestException("No venues available to organization " + tournament.getOrganizationId()
+                + " to generate a schedule");
+        }
+
+        matchRepository.deleteByDivisionIdAndStatusAndPlayoffRoundIsNull(divisionId, Match.Status.SCHEDULED);
+        List<MatchBooking> bookings = matchRepository.findBookings(
+            venues.stream().map(Venue::getId).toList(),
+            List.of(divisionId),
+            startDate.atStartOfDay(),
+            endDate.plusDays(1).atStartOfDay(),
+            List.of(Match.Status.CANCELLED, Match.Status.POSTPONED));
 
-        List<Venue> venues = venueRepository.findAll();
-        List<Long> teamIds = teams.stream().map(Team::getId).toList();
-        List<List<MatchPair>> rounds = buildRoundRobinRounds(teamIds);
-        int totalRounds = rounds.size();
-        long totalDays = ChronoUnit.DAYS.between(startDate, endDate);
-        double step = totalRounds > 1 ? (double) totalDays / (totalRounds - 1) : 0;
+        progress.update("PLANNING", 0, 1);
+        long[] teamIds = teams.stream().mapToLong(Team::getId).toArray();
+        RoundRobin rounds = new RoundRobin(teamIds, doubleRoundRobin ? 2 : 1);
+        VenueCalendar calendar = matchScheduler.calendar(startDate, endDate, venues, bookings);
+        MatchScheduler.Plan plan = matchScheduler.plan(calendar, rounds, division.getMatchDurationMinutes(), bookings);
+
+        List<Match> generatedMatches = new ArrayList<>(plan.placedCount());
+        List<ScheduleResponse.UnscheduledMatch> unscheduled = collect(divisionId, plan, generatedMatches);
+        return new ScheduleResponse(save(generatedMatches, progress), unscheduled);
+    }
+
+    /**
+     * Generates the schedules of all the tournament's divisions at once. The
+     * divisions are planned in parallel against one shared view of the venue
+     * slots, so they never double-book a venue, and all matches are written
+     * in a single transaction. Divisions with fewer than 2 teams are skipped.
+     */
+    @Transactional
+    public TournamentScheduleResponse generateTournamentSchedule(Long tournamentId, boolean doubleRoundRobin) {
+        return metrics.time("soccerhub.schedule.generate.tournament",
+            () -> scheduleTournament(tournamentId, doubleRoundRobin), "tournament", tournamentId);
+    }
+
+    private TournamentScheduleResponse scheduleTournament(Long tournamentId, boolean doubleRoundRobin) {
+        long started = System.nanoTime();
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+        LocalDate startDate = tournament.getStartDate();
+        LocalDate endDate = tournament.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("Tournament end date must be on or after the start date");
+        }
+        List<Division> divisions = divisionRepository.findByTournamentIdOrderById(tournamentId);
+        if (divisions.isEmpty()) {
+            throw new BadRequestException("Tournament " + tournamentId + " has no divisions to schedule");
+        }
+        List<Venue> venues = venueRepository.findAvailableToOrganization(tournament.getOrganizationId());
+        if (venues.isEmpty()) {
+            throw new BadRequestException("No venues available to organization " + tournament.getOrganizationId()
+                + " to generate a schedule");
+        }
+
+        List<Long> divisionIds = divisions.stream().map(Division::getId).toList();
+        Map<Long, List<Team>> teamsByDivision = teamRepository.findByDivisionIdIn(divisionIds).stream()
+            .collect(Collectors.groupingBy(Team::getDivisionId));
+        matchRepository.deleteByDivisionIdInAndStatusAndPlayoffRoundIsNull(divisionIds, Match.Status.SCHEDULED);
+        List<MatchBooking> bookings = matchRepository.findBookings(
+            venues.stream().map(Venue::getId).toList(),
+            divisionIds,
+            startDate.atStartOfDay(),
+            endDate.plusDays(1).atStartOfDay(),
+            List.of(Match.Status.CANCELLED, Match.Status.POSTPONED));
+        VenueCalendar calendar = matchScheduler.calendar(startDate, endDate, venues, bookings);
+
+        List<Division> planned = new ArrayList<>();
+        List<MatchScheduler.PlanRequest> requests = new ArrayList<>();
+        for (Division division : divisions) {
+            List<Team> teams = teamsByDivision.getOrDefault(division.getId(), List.of());
+            if (teams.size() >= 2) {
+                long[] teamIds = teams.stream().mapToLong(Team::getId).toArray();
+                planned.add(division);
+                requests.add(new MatchScheduler.PlanRequest(
+                    new RoundRobin(teamIds, doubleRoundRobin ? 2 : 1), division.getMatchDurationMinutes(), bookings));
+            }
+        }
+        long planningStarted = System.nanoTime();
+        List<MatchScheduler.Plan> plans = matchScheduler.planAll(calendar, requests);
+        long planningTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - planningStarted);
 
         List<Match> generatedMatches = new ArrayList<>();
-        int venueIndex = 0;
-        for (int roundIndex = 0; roundIndex < rounds.size(); roundIndex++) {
-            long offset = Math.round(step * roundIndex);
-            LocalDate matchDay = startDate.plusDays(offset);
-            LocalDateTime matchDateTime = matchDay.atTime(LocalTime.NOON);
-
-            for (MatchPair pair : rounds.get(roundIndex)) {
-                Match match = new Match();
-                match.setDivisionId(divisionId);
-                match.setHomeTeamId(pair.homeTeamId());
-                match.setAwayTeamId(pair.awayTeamId());
-                if (!venues.isEmpty()) {
-                    match.setVenueId(venues.get(venueIndex % venues.size()).getId());
-                    venueIndex++;
-                }
-                match.setMatchDate(matchDateTime);
-                match.setStatus(Match.Status.SCHEDULED);
-                generatedMatches.add(matchService.createMatch(match));
+        Map<Long, TournamentScheduleResponse.DivisionSchedule> results = new HashMap<>();
+        int unscheduledCount = 0;
+        for (int i = 0; i < plans.size(); i++) {
+            Division division = planned.get(i);
+            MatchScheduler.Plan plan = plans.get(i);
+            List<ScheduleResponse.UnscheduledMatch> unscheduled = collect(division.getId(), plan, generatedMatches);
+            unscheduledCount += unscheduled.size();
+            results.put(division.getId(), new TournamentScheduleResponse.DivisionSchedule(
+                division.getId(), division.getName(), plan.teamCount(), plan.placedCount(), unscheduled,
+                plan.planningTimeMs(), null));
+        }
+
+        long saveStarted = System.nanoTime();
+        matchRepository.insertAll(generatedMatches);
+        long saveTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - saveStarted);
+
+        List<TournamentScheduleResponse.DivisionSchedule> divisionResults = new ArrayList<>(divisions.size());
+        for (Division division : divisions) {
+            TournamentScheduleResponse.DivisionSchedule result = results.get(division.getId());
+            if (result == null) {
+                int teams = teamsByDivision.getOrDefault(division.getId(), List.of()).size();
+                result = new TournamentScheduleResponse.DivisionSchedule(division.getId(), division.getName(), teams,
+                    0, List.of(), 0, "Division must have at least 2 teams to generate a schedule");
+            }
+            divisionResults.add(result);
+        }
+        long totalTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Scheduled {} matches for {} divisions of tournament {} in {} ms (planning {} ms, saving {} ms)",
+            generatedMatches.size(), plans.size(), tournamentId, totalTimeMs, planningTimeMs, saveTimeMs);
+        return new TournamentScheduleResponse(tournamentId, generatedMatches.size(), unscheduledCount,
+            totalTimeMs, planningTimeMs, saveTimeMs, divisionResults);
+    }
+
+    /**
+     * Adds a match for every placed entry of the plan to matches and returns
+     * the entries that found no slot.
+     */
+    private List<ScheduleResponse.UnscheduledMatch> collect(Long divisionId, MatchScheduler.Plan plan, List<Match> matches) {
+        List<ScheduleResponse.UnscheduledMatch> unscheduled = new ArrayList<>(plan.matchCount() - plan.placedCount());
+        for (int m = 0; m < plan.matchCount(); m++) {
+            if (!plan.isPlaced(m)) {
+                unscheduled.add(new ScheduleResponse.UnscheduledMatch(
+                    plan.round(m) + 1, plan.homeTeamId(m), plan.awayTeamId(m), plan.unplacedReason(m)));
+                continue;
             }
+            Match match = new Match();
+            match.setDivisionId(divisionId);
+            match.setHomeTeamId(plan.homeTeamId(m));
+            match.setAwayTeamId(plan.awayTeamId(m));
+            match.setVenueId(plan.venueId(m));
+            match.setMatchDate(plan.kickoff(m));
+            match.setStatus(Match.Status.SCHEDULED);
+            matches.add(match);
+        }
+        if (!unscheduled.isEmpty()) {
+            log.warn("Schedule for division {} left {} of {} matches without a slot",
+                divisionId, unscheduled.size(), plan.matchCount());
         }
+        return unscheduled;
+    }
 
-        return generatedMatches;
+    @Transactional
+    public List<Match> generatePlayoffs(Long divisionId, Integer playoffTeams, boolean thirdPlace) {
+        return generatePlayoffs(divisionId, playoffTeams, thirdPlace, ScheduleProgress.NONE);
     }
 
+    /**
+     * Replaces the division's playoff matches with a single-elimination
+     * bracket of its best playoffTeams teams (4 when null), seeded by the
+     * standings. Every match of the bracket is created up front, later rounds
+     * without teams, and linked to the match its winner moves to.
+     */
     @Transactional
-    public List<Match> generatePlayoffs(Long divisionId) {
+    public List<Match> generatePlayoffs(Long divisionId, Integer playoffTeams, boolean thirdPlace, ScheduleProgress progress) {
+        return metrics.time("soccerhub.playoffs.generate",
+            () -> buildPlayoffs(divisionId, playoffTeams, thirdPlace, progress), "division", divisionId);
+    }
+
+    private List<Match> buildPlayoffs(Long divisionId, Integer playoffTeams, boolean thirdPlace, ScheduleProgress progress) {
         Division division = getDivisionById(divisionId);
-        List<Standing> standings = standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId);
-        if (standings.size() < 4) {
-            throw new BadRequestException("Division must have at least 4 teams in standings to generate playoffs");
+        int teams = playoffTeams != null ? playoffTeams : DEFAULT_PLAYOFF_TEAMS;
+        if (teams < 2 || teams > MAX_PLAYOFF_TEAMS) {
+            throw new BadRequestException("Playoffs take between 2 and " + MAX_PLAYOFF_TEAMS + " teams");
+        }
+        if (thirdPlace && teams < 4) {
+            throw new BadRequestException("A third-place match needs at least 4 playoff teams");
+        }
+        // Seeds follow the full tiebreak ranking, so level teams are seeded deterministically
+        List<Standing> standings = standingService.getStandingsByDivisionId(divisionId);
+        if (standings.size() < teams) {
+            throw new BadRequestException("Division must have at least " + teams + " teams in standings to generate playoffs");
         }
 
         Tournament tournament = tournamentRepository.findById(division.getTournamentId())
@@ -132,89 +337,161 @@ public class DivisionService {
 
         matchRepository.deleteByDivisionIdAndPlayoffRoundIsNotNull(divisionId);
 
-        List<Venue> venues = venueRepository.findAll();
-        int venueIndex = 0;
-        List<Standing> seeds = standings.subList(0, 4);
-        List<Match> playoffMatches = new ArrayList<>();
-        LocalDateTime semifinalDate = tournament.getEndDate().minusDays(1).atTime(LocalTime.NOON);
-
-        playoffMatches.add(createPlayoffMatch(
-            divisionId,
-            seeds.get(0).getTeamId(),
-            seeds.get(3).getTeamId(),
-            semifinalDate,
-            "SEMIFINAL",
-            venues,
-            venueIndex++
-        ));
-
-        playoffMatches.add(createPlayoffMatch(
-            divisionId,
-            seeds.get(1).getTeamId(),
-            seeds.get(2).getTeamId(),
-            semifinalDate,
-            "SEMIFINAL",
-            venues,
-            venueIndex++
-        ));
-
-        return playoffMatches;
-    }
+        List<Venue> venues = venueRepository.findAvailableToOrganization(tournament.getOrganizationId());
+        if (venues.isEmpty()) {
+            throw new BadRequestException("No venues available to organization " + tournament.getOrganizationId()
+                + " to generate playoffs");
+        }
+        PlayoffBracket bracket = new PlayoffBracket(teams, thirdPlace);
+        int rounds = bracket.roundCount();
+        // The final is played on the tournament's last day and every earlier round a day before the next
+        LocalDate firstDay = tournament.getEndDate().minusDays(rounds - 1);
+        LocalDate lastDay = tournament.getEndDate();
+        if (firstDay.isBefore(tournament.getStartDate())) {
+            throw new BadRequestException("Tournament from " + tournament.getStartDate() + " to " + lastDay
+                + " is too short for " + rounds + " playoff rounds on consecutive days");
+        }
+        List<MatchBooking> bookings = matchRepository.findBookings(
+            venues.stream().map(Venue::getId).toList(),
+            List.of(divisionId),
+            firstDay.atStartOfDay(),
+            lastDay.plusDays(1).atStartOfDay(),
+            List.of(Match.Status.CANCELLED, Match.Status.POSTPONED));
+        VenueCalendar calendar = matchScheduler.calendar(firstDay, lastDay, venues, bookings);
+        Match[][] bracketMatches = new Match[rounds][];
+        for (int round = 0; round < rounds; round++) {
+            LocalDate day = firstDay.plusDays(round);
+            bracketMatches[round] = new Match[bracket.matchesInRound(round)];
+            for (int position = 0; position < bracketMatches[round].length; position++) {
+                if (bracket.isPlayed(round, position)) {
+                    bracketMatches[round][position] = playoffMatch(
+                        division, calendar, day, bracket.roundName(round));
+                }
+            }
+        }
+        Match thirdPlaceMatch = thirdPlace
+            ? playoffMatch(division, calendar, lastDay, PlayoffBracket.THIRD_PLACE)
+            : null;
 
-    private List<List<MatchPair>> buildRoundRobinRounds(List<Long> teamIds) {
-        List<Long> teams = new ArrayList<>(teamIds);
-        if (teams.size() % 2 != 0) {
-            teams.add(null);
+        // First-round seeds; a seed with a bye starts in the second round
+        for (int position = 0; position < bracket.matchesInRound(0); position++) {
+            int homeSeed = bracket.firstRoundSeed(position, 0);
+            int awaySeed = bracket.firstRoundSeed(position, 1);
+            Match match = bracketMatches[0][position];
+            if (match != null) {
+                seat(match, Match.Side.HOME, homeSeed, standings);
+                seat(match, Match.Side.AWAY, awaySeed, standings);
+            } else {
+                seat(bracketMatches[1][position / 2], sideOf(position), homeSeed != 0 ? homeSeed : awaySeed, standings);
+            }
         }
 
-        int totalTeams = teams.size();
-        int rounds = totalTeams - 1;
-        List<List<MatchPair>> schedule = new ArrayList<>();
+        // Rounds are inserted from the final backwards, so every match can point at its successor's id
+        int total = (int) Arrays.stream(bracketMatches).flatMap(Arrays::stream).filter(Objects::nonNull).count()
+            + (thirdPlaceMatch != null ? 1 : 0);
+        int saved = 0;
+        for (int round = rounds - 1; round >= 0; round--) {
+            List<Match> level = new ArrayList<>();
+            for (int position = 0; position < bracketMatches[round].length; position++) {
+                Match match = bracketMatches[round][position];
+                if (match == null) {
+                    continue;
+                }
+                if (round + 1 < rounds) {
+                    match.setNextMatchId(bracketMatches[round + 1][position / 2].getId());
+                    match.setNextMatchSide(sideOf(position));
+                }
+                if (round == rounds - 2 && thirdPlaceMatch != null) {
+                    match.setLoserNextMatchId(thirdPlaceMatch.getId());
+                    match.setLoserNextMatchSide(sideOf(position));
+                }
+                level.add(match);
+            }
+            if (round == rounds - 1 && thirdPlaceMatch != null) {
+                level.add(thirdPlaceMatch);
+            }
+            progress.update("SAVING", saved, total);
+            matchRepository.insertAll(level);
+            saved += level.size();
+        }
+        progress.update("SAVING", total, total);
 
-        for (int round = 0; round < rounds; round++) {
-            List<MatchPair> matchPairs = new ArrayList<>();
-            for (int i = 0; i < totalTeams / 2; i++) {
-                Long home = teams.get(i);
-                Long away = teams.get(totalTeams - 1 - i);
-                if (home != null && away != null) {
-                    matchPairs.add(new MatchPair(home, away));
+        List<Match> playoffMatches = new ArrayList<>(total);
+        for (Match[] round : bracketMatches) {
+            for (Match match : round) {
+                if (match != null) {
+                    playoffMatches.add(match);
                 }
             }
-            schedule.add(matchPairs);
-            teams = rotateTeams(teams);
         }
+        if (thirdPlaceMatch != null) {
+            playoffMatches.add(thirdPlaceMatch);
+        }
+        return playoffMatches;
+    }
 
-        return schedule;
+    private List<Match> save(List<Match> matches, ScheduleProgress progress) {
+        List<Match> saved = new ArrayList<>(matches.size());
+        for (int from = 0; from < matches.size(); from += SAVE_CHUNK_SIZE) {
+            progress.update("SAVING", from, matches.size());
+            saved.addAll(matchRepository.insertAll(matches.subList(from, Math.min(from + SAVE_CHUNK_SIZE, matches.size()))));
+        }
+        progress.update("SAVING", matches.size(), matches.size());
+        return saved;
     }
 
-    private List<Long> rotateTeams(List<Long> teams) {
-        List<Long> rotated = new ArrayList<>(teams.size());
-        rotated.add(teams.get(0));
-        rotated.add(teams.get(teams.size() - 1));
-        rotated.addAll(teams.subList(1, teams.size() - 1));
-        return rotated;
+    private String normalizeTiebreakers(String tiebreakers) {
+        if (tiebreakers == null || tiebreakers.isBlank()) {
+            return null;
+        }
+        try {
+            return Division.Tiebreaker.parse(tiebreakers).stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown tiebreaker in '" + tiebreakers + "'. Valid values: "
+                + Arrays.toString(Division.Tiebreaker.values()));
+        }
     }
 
-    private Match createPlayoffMatch(Long divisionId,
-                                     Long homeTeamId,
-                                     Long awayTeamId,
-                                     LocalDateTime matchDate,
-                                     String round,
-                                     List<Venue> venues,
-                                     int venueIndex) {
-        Match match = new Match();
-        match.setDivisionId(divisionId);
-        match.setHomeTeamId(homeTeamId);
-        match.setAwayTeamId(awayTeamId);
-        if (!venues.isEmpty()) {
-            match.setVenueId(venues.get(venueIndex % venues.size()).getId());
+    private void validateMatchDuration(Integer minutes) {
+        if (minutes != null && (minutes < 1 || minutes > 24 * 60)) {
+            throw new BadRequestException("Match duration must be between 1 and 1440 minutes");
+        }
+    }
+
+    /**
+     * Creates a playoff match in the earliest free venue slot of the day,
+     * which it claims in the calendar so later matches of the day go
+     * elsewhere.
+     */
+    private Match playoffMatch(Division division, VenueCalendar calendar, LocalDate day, String round) {
+        MatchScheduler.Slot slot = matchScheduler.claim(calendar, day, division.getMatchDurationMinutes());
+        if (slot == null) {
+            throw new BadRequestException("No free venue slot on " + day + " for the " + round + " of division "
+                + division.getId());
         }
-        match.setMatchDate(matchDate);
+        Match match = new Match();
+        match.setDivisionId(division.getId());
+        match.setVenueId(slot.venueId());
+        match.setMatchDate(slot.kickoff());
         match.setStatus(Match.Status.SCHEDULED);
         match.setPlayoffRound(round);
-        return matchService.createMatch(match);
+        return match;
+    }
+
+    private static void seat(Match match, Match.Side side, int seed, List<Standing> standings) {
+        Long teamId = standings.get(seed - 1).getTeamId();
+        if (side == Match.Side.HOME) {
+            match.setHomeTeamId(teamId);
+            match.setHomeSeed(seed);
+        } else {
+            match.setAwayTeamId(teamId);
+            match.setAwaySeed(seed);
+        }
     }
 
-    private record MatchPair(Long homeTeamId, Long awayTeamId) {
+    private static Match.Side sideOf(int position) {
+        return position % 2 == 0 ? Match.Side.HOME : Match.Side.AWAY;
     }
 }
@@ -0,0 +1,445 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.StandingDelta;
+import com.soccerhub.backend.entity.Standing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory standings table for one division. Rows are kept in ranked order
+ * (points, goal difference, team id) and re-positioned after every delta, so
+ * reads never sort. Deltas not yet written to the database are kept per team
+ * until the write-behind flush drains them. Every change bumps the version,
+ * which keys the cached tiebreak ranking and serialized form of the table.
+ */
+class DivisionStandings {
+
+    private final Long divisionId;
+    private final Map<Long, Row> rowsByTeam = new HashMap<>();
+    private final List<Row> ranked = new ArrayList<>();
+    private final Map<Long, StandingDelta> pending = new HashMap<>();
+    private long version;
+    // Bumped whenever the rows are reloaded from the database
+    private long generation;
+    private long payloadVersion = -1;
+    private byte[] payload;
+    private long rankingVersion = -1;
+    private List<Standing> ranking;
+    // A lock rather than the monitor, so callers reading the database while
+    // holding it do not pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The initial version keeps the ETags of a cached table apart from those
+     * handed out for the same division while it was not cached.
+     */
+    DivisionStandings(Long divisionId, List<Standing> rows, long version) {
+        this.divisionId = divisionId;
+        this.version = version;
+        load(rows);
+    }
+
+    Long getDivisionId() {
+        return divisionId;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    void apply(Collection<StandingDelta> deltas, boolean writeBehind) {
+        lock.lock();
+        try {
+            if (!deltas.isEmpty()) {
+                version++;
+            }
+            for (StandingDelta delta : deltas) {
+                Row row = rowsByTeam.get(delta.teamId());
+                if (row == null) {
+                    row = new Row(delta.teamId());
+                    rowsByTeam.put(row.teamId, row);
+                    row.position = ranked.size();
+                    ranked.add(row);
+                }
+                row.add(delta);
+                reposition(row);
+                if (writeBehind) {
+                    pending.merge(delta.teamId(), delta, StandingDelta::plus);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies deltas that the caller already wrote to the database, unless
+     * the table was reloaded since the given generation, in which case the
+     * reload may have read them already and false is returned.
+     */
+    boolean applyStored(Collection<StandingDelta> deltas, long expectedGeneration) {
+        lock.lock();
+        try {
+            if (generation != expectedGeneration) {
+                return false;
+            }
+            apply(deltas, false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long version() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Snapshot versionedSnapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(version, snapshot());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the serialized table cached for the given version, or null if
+     * the table changed since it was serialized.
+     */
+    byte[] payload(long expectedVersion) {
+        lock.lock();
+        try {
+            return payloadVersion == expectedVersion ? payload : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void cachePayload(long payloadVersion, byte[] payload) {
+        lock.lock();
+        try {
+            if (payloadVersion == version) {
+                this.payloadVersion = payloadVersion;
+                this.payload = payload;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the tiebreak ranking cached for the given version, or null if
+     * the table changed since it was ranked.
+     */
+    List<Standing> ranking(long expectedVersion) {
+        lock.lock();
+        try {
+            return rankingVersion == expectedVersion ? ranking : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void cacheRanking(long rankingVersion, List<Standing> ranking) {
+        lock.lock();
+        try {
+            if (rankingVersion == version) {
+                this.rankingVersion = rankingVersion;
+                this.ranking = ranking;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the cached ranking and payload, e.g. after the division's
+     * tiebreakers changed.
+     */
+    void touch() {
+        lock.lock();
+        try {
+            version++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Standing> snapshot() {
+        lock.lock();
+        try {
+            List<Standing> standings = new ArrayList<>(ranked.size());
+            for (Row row : ranked) {
+                standings.add(row.toStanding(divisionId));
+            }
+            return standings;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Map<Long, StandingDelta> drainPending() {
+        lock.lock();
+        try {
+            Map<Long, StandingDelta> drained = new HashMap<>(pending);
+            pending.clear();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void requeue(Map<Long, StandingDelta> deltas) {
+        lock.lock();
+        try {
+            deltas.forEach((teamId, delta) -> pending.merge(teamId, delta, StandingDelta::plus));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void assignIds(Map<Long, Standing> persisted) {
+        lock.lock();
+        try {
+            persisted.forEach((teamId, standing) -> {
+                Row row = rowsByTeam.get(teamId);
+                if (row != null && row.id == null) {
+                    row.id = standing.getId();
+                    row.createdAt = standing.getCreatedAt();
+                    version++;
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compares the flushed part of this table (current values minus pending
+     * deltas) with the given database rows and returns a description of every
+     * mismatch. Callers must hold this table's lock together with the
+     * database read so that no delta slips in between.
+     */
+    List<String> diff(List<Standing> databaseRows) {
+        lock.lock();
+        try {
+            Map<Long, Standing> byTeam = new HashMap<>();
+            for (Standing standing : databaseRows) {
+                byTeam.put(standing.getTeamId(), standing);
+            }
+
+            List<String> mismatches = new ArrayList<>();
+            for (Row row : ranked) {
+                StandingDelta unflushed = pending.get(row.teamId);
+                Row expected = row.copy();
+                if (unflushed != null) {
+                    expected.add(unflushed.negate());
+                }
+                Standing stored = byTeam.remove(row.teamId);
+                if (stored == null) {
+                    if (!expected.isEmpty()) {
+                        mismatches.add("team " + row.teamId + " missing from database");
+                    }
+                } else if (!expected.matches(stored)) {
+                    mismatches.add("team " + row.teamId + " memory=" + expected + " database=" + Row.of(stored));
+                }
+            }
+            byTeam.keySet().forEach(teamId -> mismatches.add("team " + teamId + " missing from memory"));
+            return mismatches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the table contents with the given database rows, keeping any
+     * deltas that have not been flushed yet on top of them.
+     */
+    void reset(List<Standing> databaseRows) {
+        lock.lock();
+        try {
+            version++;
+            generation++;
+            rowsByTeam.clear();
+            ranked.clear();
+            load(databaseRows);
+            for (StandingDelta delta : pending.values()) {
+                Row row = rowsByTeam.computeIfAbsent(delta.teamId(), teamId -> {
+                    Row created = new Row(teamId);
+                    created.position = ranked.size();
+                    ranked.add(created);
+                    return created;
+                });
+                row.add(delta);
+                reposition(row);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load(List<Standing> rows) {
+        for (Standing standing : rows) {
+            Row row = Row.of(standing);
+            rowsByTeam.put(row.teamId, row);
+            row.position = ranked.size();
+            ranked.add(row);
+            reposition(row);
+        }
+    }
+
+    private void reposition(Row row) {
+        int index = row.position;
+        while (index > 0 && compare(row, ranked.get(index - 1)) < 0) {
+            Row above = ranked.get(index - 1);
+            ranked.set(index, above);
+            above.position = index;
+            index--;
+        }
+        while (index < ranked.size() - 1 && compare(row, ranked.get(index + 1)) > 0) {
+            Row below = ranked.get(index + 1);
+            ranked.set(index, below);
+            below.position = index;
+            index++;
+        }
+        ranked.set(index, row);
+        row.position = index;
+    }
+
+    private static int compare(Row a, Row b) {
+        if (a.points != b.points) {
+            return Integer.compare(b.points, a.points);
+        }
+        int goalDifferenceA = a.goalsFor - a.goalsAgainst;
+        int goalDifferenceB = b.goalsFor - b.goalsAgainst;
+        if (goalDifferenceA != goalDifferenceB) {
+            return Integer.compare(goalDifferenceB, goalDifferenceA);
+        }
+        return Long.compare(a.teamId, b.teamId);
+    }
+
+    record Snapshot(long version, List<Standing> standings) {
+    }
+
+    private static final class Row {
+        private final Long teamId;
+        private Long id;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private int position;
+        private int played;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+        private int points;
+
+        private Row(Long teamId) {
+            this.teamId = teamId;
+        }
+
+        private static Row of(Standing standing) {
+            Row row = new Row(standing.getTeamId());
+            row.id = standing.getId();
+            row.createdAt = standing.getCreatedAt();
+            row.updatedAt = standing.getUpdatedAt();
+            row.played = standing.getPlayed();
+            row.won = standing.getWon();
+            row.drawn = standing.getDrawn();
+            row.lost = standing.getLost();
+            row.goalsFor = standing.getGoalsFor();
+            row.goalsAgainst = standing.getGoalsAgainst();
+            row.points = standing.getPoints();
+            return row;
+        }
+
+        private void add(StandingDelta delta) {
+            played += delta.played();
+            won += delta.won();
+            drawn += delta.drawn();
+            lost += delta.lost();
+            goalsFor += delta.goalsFor();
+            goalsAgainst += delta.goalsAgainst();
+            points += delta.points();
+            updatedAt = LocalDateTime.now();
+        }
+
+        private Row copy() {
+            Row copy = new Row(teamId);
+            copy.played = played;
+            copy.won = won;
+            copy.drawn = drawn;
+            copy.lost = lost;
+            copy.goalsFor = goalsFor;
+            copy.goalsAgainst = goalsAgainst;
+            copy.points = points;
+            return copy;
+        }
+
+        private boolean isEmpty() {
+            return played == 0 && won == 0 && drawn == 0 && lost == 0
+                && goalsFor == 0 && goalsAgainst == 0 && points == 0;
+        }
+
+        private boolean matches(Standing standing) {
+            return played == standing.getPlayed()
+                && won == standing.getWon()
+                && drawn == standing.getDrawn()
+                && lost == standing.getLost()
+                && goalsFor == standing.getGoalsFor()
+                && goalsAgainst == standing.getGoalsAgainst()
+                && goalsFor - goalsAgainst == standing.getGoalDifference()
+                && points == standing.getPoints();
+        }
+
+        private Standing toStanding(Long divisionId) {
+            Standing standing = new Standing();
+            standing.setId(id);
+            standing.setDivisionId(divisionId);
+            standing.setTeamId(teamId);
+            standing.setPlayed(played);
+            standing.setWon(won);
+            standing.setDrawn(drawn);
+            standing.setLost(lost);
+            standing.setGoalsFor(goalsFor);
+            standing.setGoalsAgainst(goalsAgainst);
+            standing.setGoalDifference(goalsFor - goalsAgainst);
+            standing.setPoints(points);
+            standing.setCreatedAt(createdAt);
+            standing.setUpdatedAt(updatedAt);
+            return standing;
+        }
+
+        @Override
+        public String toString() {
+            return "[P" + played + " W" + won + " D" + drawn + " L" + lost
+                + " GF" + goalsFor + " GA" + goalsAgainst + " Pts" + points + "]";
+        }
+    }
+}
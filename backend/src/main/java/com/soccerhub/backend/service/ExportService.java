@@ -0,0 +1,244 @@
+package com.soccerhub.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.soccerhub.backend.dto.MatchSummary;
+import com.soccerhub.backend.dto.PlayerSummary;
+import com.soccerhub.backend.dto.StandingExportRow;
+import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.exception.BadRequestException;
+import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.PlayerRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Season exports of matches, players and standings as NDJSON or CSV. Rows
+ * are streamed from the database with a JDBC fetch size straight into the
+ * response, as read-only projections that never enter the persistence
+ * context, so memory use does not grow with the number of rows. Standings
+ * come from the in-memory tables one division at a time.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        NDJSON(new MediaType("application", "x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Unsupported export format: " + value + " (use ndjson or csv)");
+            }
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final DivisionRepository divisionRepository;
+    private final TournamentRepository tournamentRepository;
+    private final OrganizationRepository organizationRepository;
+    private final StandingService standingService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+
+    public ExportService(MatchRepository matchRepository,
+                         PlayerRepository playerRepository,
+                         DivisionRepository divisionRepository,
+                         TournamentRepository tournamentRepository,
+                         OrganizationRepository organizationRepository,
+                         StandingService standingService,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.matchRepository = matchRepository;
+        this.playerRepository = playerRepository;
+        this.divisionRepository = divisionRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.organizationRepository = organizationRepository;
+        this.standingService = standingService;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Matches of the divisions selected by the filters, ordered by division,
+     * date and id. Filters are optional and combined with AND.
+     */
+    public StreamingResponseBody exportMatches(Long organizationId, Long tournamentId, Long divisionId, Format format) {
+        checkScope(organizationId, tournamentId, divisionId);
+        return out -> readTransaction.executeWithoutResult(status -> {
+            try (Stream<MatchSummary> rows = matchRepository.streamForExport(organizationId, tournamentId, divisionId)) {
+                write(rows, MatchSummary.class, format, out);
+            }
+        });
+    }
+
+    /**
+     * Players of the teams in the selected divisions, ordered by team and id.
+     */
+    public StreamingResponseBody exportPlayers(Long organizationId, Long tournamentId, Long divisionId, Format format) {
+        checkScope(organizationId, tournamentId, divisionId);
+        return out -> readTransaction.executeWithoutResult(status -> {
+            try (Stream<PlayerSummary> rows = playerRepository.streamForExport(organizationId, tournamentId, divisionId)) {
+                write(rows, PlayerSummary.class, format, out);
+            }
+        });
+    }
+
+    /**
+     * Ranked standings of the selected divisions, in division id order.
+     */
+    public StreamingResponseBody exportStandings(Long organizationId, Long tournamentId, Long divisionId,
+                                                 Format format) {
+        checkScope(organizationId, tournamentId, divisionId);
+        return out -> {
+            List<Long> divisionIds = divisionRepository.findExportScope(organizationId, tournamentId, divisionId);
+            Stream<StandingExportRow> rows = divisionIds.stream().flatMap(id -> {
+                List<Standing> table = standingService.getStandingsByDivisionId(id);
+                return IntStream.range(0, table.size()).mapToObj(i -> toRow(id, i + 1, table.get(i)));
+            });
+            write(rows, StandingExportRow.class, format, out);
+        };
+    }
+
+    /**
+     * Checks the filters before the response is committed, so unknown ids
+     * still produce a 404 instead of an empty export.
+     */
+    private void checkScope(Long organizationId, Long tournamentId, Long divisionId) {
+        if (organizationId != null && !organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization not found with id: " + organizationId);
+        }
+        if (tournamentId != null && !tournamentRepository.existsById(tournamentId)) {
+            throw new ResourceNotFoundException("Tournament not found with id: " + tournamentId);
+        }
+        if (divisionId != null && !divisionRepository.existsById(divisionId)) {
+            throw new ResourceNotFoundException("Division not found with id: " + divisionId);
+        }
+    }
+
+    private static StandingExportRow toRow(Long divisionId, int position, Standing standing) {
+        return new StandingExportRow(divisionId, position, standing.getTeamId(), standing.getPlayed(),
+            standing.getWon(), standing.getDrawn(), standing.getLost(), standing.getGoalsFor(),
+            standing.getGoalsAgainst(), standing.getGoalDifference(), standing.getPoints());
+    }
+
+    private <R extends Record> void write(Stream<R> rows, Class<R> type, Format format, OutputStream out) {
+        long written;
+        try {
+            written = format == Format.CSV ? writeCsv(rows, type, out) : writeNdjson(rows, out);
+        } catch (IOException ex) {
+            // Usually the client went away; the response is already committed
+            log.debug("{} export stopped: {}", type.getSimpleName(), ex.getMessage());
+            throw new UncheckedIOException(ex);
+        }
+        log.debug("Exported {} {} rows as {}", written, type.getSimpleName(), format);
+    }
+
+    private long writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        // One value per line, flushed by the buffer rather than after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        for (Iterator<?> it = rows.iterator(); it.hasNext(); count++) {
+            writer.writeValue(generator, it.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Stream<? extends Record> rows, Class<? extends Record> type, OutputStream out)
+            throws IOException {
+        RecordComponent[] columns = type.getRecordComponents();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        for (int i = 0; i < columns.length; i++) {
+            writer.write(i == 0 ? "" : ",");
+            writer.write(columns[i].getName());
+        }
+        writer.write("\r\n");
+        long count = 0;
+        for (Iterator<? extends Record> it = rows.iterator(); it.hasNext(); count++) {
+            Record row = it.next();
+            for (int i = 0; i < columns.length; i++) {
+                writer.write(i == 0 ? "" : ",");
+                writer.write(csvValue(read(columns[i], row)));
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static Object read(RecordComponent column, Record row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Could not read " + column.getName() + " of " + row, ex);
+        }
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDateTime dateTime
+            ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)
+            : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,53 @@
+package com.soccerhub.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Latency timers for the service hot paths. Every timer carries an outcome
+ * tag, "success" or the simple name of the exception thrown, next to the
+ * tags of the call site. A meter name must always be used with the same tag
+ * keys, since Prometheus rejects series whose labels differ.
+ */
+@Component
+@RequiredArgsConstructor
+class HotPathMetrics {
+
+    static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stops the sample into the named timer. Tags are given as alternating
+     * keys and values; null values are reported as "unknown".
+     */
+    void stop(Timer.Sample sample, String name, Throwable failure, Object... tags) {
+        Timer.Builder timer = Timer.builder(name)
+            .tag("outcome", failure == null ? "success" : failure.getClass().getSimpleName());
+        for (int i = 0; i < tags.length; i += 2) {
+            timer.tag((String) tags[i], tags[i + 1] == null ? UNKNOWN : tags[i + 1].toString());
+        }
+        sample.stop(timer.register(meterRegistry));
+    }
+
+    <T> T time(String name, Supplier<T> call, Object... tags) {
+        Timer.Sample sample = start();
+        Throwable failure = null;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            stop(sample, name, failure, tags);
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.ImportReport;
+import com.soccerhub.backend.dto.JerseyNumber;
+import com.soccerhub.backend.entity.Player;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Venue;
+import com.soccerhub.backend.exception.BadRequestException;
+import com.soccerhub.backend.repository.BulkInsertRepository;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.PlayerRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk import of teams, players and venues from CSV. The input is parsed as
+ * a stream and handled in chunks: every chunk is validated against the
+ * column limits of the entities, its references are looked up in one query
+ * each, and its valid rows are written in bulk. An import is one
+ * transaction and all or nothing; once a row is rejected nothing more is
+ * written, but the rest of the input is still validated so every error is
+ * reported at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final DivisionRepository divisionRepository;
+    private final OrganizationRepository organizationRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HotPathMetrics metrics;
+
+    /**
+     * Columns: name, divisionId, logo (optional).
+     */
+    public ImportReport importTeams(InputStream csv) {
+        return run("teams", csv, new TeamRows());
+    }
+
+    /**
+     * Columns: firstName, lastName, teamId, jerseyNumber, position (optional).
+     */
+    public ImportReport importPlayers(InputStream csv) {
+        return run("players", csv, new PlayerRows());
+    }
+
+    /**
+     * Columns: name, address, city, capacity, organizationId and timeSlots,
+     * the last three optional.
+     */
+    public ImportReport importVenues(InputStream csv) {
+        return run("venues", csv, new VenueRows());
+    }
+
+    private <T> ImportReport run(String kind, InputStream csv, RowType<T> type) {
+        long started = System.nanoTime();
+        ImportReport report = metrics.time("soccerhub.import",
+            () -> transactionTemplate.execute(status -> {
+                ImportReport result = new ImportReport();
+                read(csv, type, result);
+                if (result.getRejected() > 0) {
+                    status.setRollbackOnly();
+                    result.setImported(0);
+                }
+                return result;
+            }),
+            "kind", kind);
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        log.info("Import of {}: {} rows, {} imported, {} rejected in {} ms{}", kind, report.getRows(),
+            report.getImported(), report.getRejected(), report.getElapsedMillis(),
+            bulkInsertRepository.isCopySupported() ? " (COPY)" : "");
+        return report;
+    }
+
+    private <T> void read(InputStream csv, RowType<T> type, ImportReport report) {
+        CsvReader reader = new CsvReader(csv);
+        try {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BadRequestException("The CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            List<String> missing = type.requiredColumns().stream()
+                .filter(column -> !columns.containsKey(column.toLowerCase(Locale.ROOT)))
+                .toList();
+            if (!missing.isEmpty()) {
+                throw new BadRequestException("Missing CSV columns: " + String.join(", ", missing));
+            }
+
+            List<Parsed<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                report.setRows(report.getRows() + 1);
+                Row row = new Row(reader.recordLine(), fields, columns);
+                T parsed = type.parse(row);
+                if (!row.errors.isEmpty()) {
+                    reject(report, row.errors);
+                } else {
+                    chunk.add(new Parsed<>(row.line, parsed));
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    write(type, chunk, report);
+                    chunk.clear();
+                }
+            }
+            write(type, chunk, report);
+        } catch (CsvReader.MalformedCsvException ex) {
+            reject(report, List.of(new ImportReport.RowError(ex.getLine(), null, ex.getMessage())));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private <T> void write(RowType<T> type, List<Parsed<T>> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<T> valid = new ArrayList<>(chunk.size());
+        for (Parsed<T> row : chunk) {
+            String error = type.check(row.value(), chunk);
+            if (error != null) {
+                reject(report, List.of(new ImportReport.RowError(row.line(), null, error)));
+            } else {
+                valid.add(row.value());
+            }
+        }
+        // After the first rejected row the transaction is rolled back anyway
+        if (report.getRejected() == 0) {
+            type.insert(valid);
+            report.setImported(report.getImported() + valid.size());
+        }
+    }
+
+    private static void reject(ImportReport report, List<ImportReport.RowError> errors) {
+        report.setRejected(report.getRejected() + 1);
+        for (ImportReport.RowError error : errors) {
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(error);
+            }
+        }
+    }
+
+    private record Parsed<T>(long line, T value) {
+    }
+
+    /**
+     * How one kind of row is parsed, checked against stored data and written.
+     */
+    private interface RowType<T> {
+
+        List<String> requiredColumns();
+
+        /**
+         * Builds the entity from a row; problems are recorded on the row.
+         */
+        T parse(Row row);
+
+        /**
+         * Error of a parsed row against the stored data and the rows before
+         * it, or null. Called in input order, with the chunk the row is part of
+         * so lookups can be done for the whole chunk at once.
+         */
+        String check(T value, List<Parsed<T>> chunk);
+
+        void insert(List<T> rows);
+    }
+
+    private final class TeamRows implements RowType<Team> {
+
+        private final ReferenceCheck divisions = new ReferenceCheck(divisionRepository::findExistingIds);
+
+        @Override
+        public List<String> requiredColumns() {
+            return List.of("name", "divisionId");
+        }
+
+        @Override
+        public Team parse(Row row) {
+            Team team = new Team();
+            team.setName(row.text("name", 100, true));
+            team.setDivisionId(row.id("divisionId", true));
+            team.setLogo(row.text("logo", 255, false));
+            return team;
+        }
+
+        @Override
+        public String check(Team team, List<Parsed<Team>> chunk) {
+            divisions.prefetch(chunk, row -> row.value().getDivisionId());
+            return divisions.exists(team.getDivisionId()) ? null : "Division not found with id: " + team.getDivisionId();
+        }
+
+        @Override
+        public void insert(List<Team> rows) {
+            bulkInsertRepository.insertTeams(rows);
+        }
+    }
+
+    private final class PlayerRows implements RowType<Player> {
+
+        private final ReferenceCheck teams = new ReferenceCheck(teamRepository::findExistingIds);
+        // Jersey numbers taken per team, loaded when a team is first seen
+        private final Map<Long, Set<Integer>> jerseysByTeam = new HashMap<>();
+
+        @Override
+        public List<String> requiredColumns() {
+            return List.of("firstName", "lastName", "teamId", "jerseyNumber");
+        }
+
+        @Override
+        public Player parse(Row row) {
+            Player player = new Player();
+            player.setFirstName(row.text("firstName", 50, true));
+            player.setLastName(row.text("lastName", 50, true));
+            player.setTeamId(row.id("teamId", true));
+            player.setJerseyNumber(row.integer("jerseyNumber", true));
+            player.setPosition(row.text("position", 50, false));
+            return player;
+        }
+
+        @Override
+        public String check(Player player, List<Parsed<Player>> chunk) {
+            if (teams.prefetch(chunk, row -> row.value().getTeamId())) {
+                loadJerseys(chunk);
+            }
+            if (!teams.exists(player.getTeamId())) {
+                return "Team not found with id: " + player.getTeamId();
+            }
+            if (!jerseysByTeam.computeIfAbsent(player.getTeamId(), id -> new HashSet<>()).add(player.getJerseyNumber())) {
+                return "Jersey number " + player.getJerseyNumber() + " is already taken in team " + player.getTeamId();
+            }
+            return null;
+        }
+
+        private void loadJerseys(List<Parsed<Player>> chunk) {
+            Set<Long> unseen = new LinkedHashSet<>();
+            for (Parsed<Player> row : chunk) {
+                if (teams.exists(row.value().getTeamId()) && !jerseysByTeam.containsKey(row.value().getTeamId())) {
+                    unseen.add(row.value().getTeamId());
+                }
+            }
+            if (unseen.isEmpty()) {
+                return;
+            }
+            unseen.forEach(teamId -> jerseysByTeam.put(teamId, new HashSet<>()));
+            for (JerseyNumber taken : playerRepository.findJerseyNumbers(unseen)) {
+                jerseysByTeam.get(taken.teamId()).add(taken.jerseyNumber());
+            }
+        }
+
+        @Override
+        public void insert(List<Player> rows) {
+            bulkInsertRepository.insertPlayers(rows);
+        }
+    }
+
+    private final class VenueRows implements RowType<Venue> {
+
+        private final ReferenceCheck organizations = new ReferenceCheck(organizationRepository::findExistingIds);
+
+        @Override
+        public List<String> requiredColumns() {
+            return List.of("name", "address", "city");
+        }
+
+        @Override
+        public Venue parse(Row row) {
+            Venue venue = new Venue();
+            venue.setName(row.text("name", 100, true));
+            venue.setAddress(row.text("address", 255, true));
+            venue.setCity(row.text("city", 100, true));
+            venue.setCapacity(row.integer("capacity", false));
+            venue.setOrganizationId(row.id("organizationId", false));
+            String timeSlots = row.text("timeSlots", 255, false);
+            try {
+                venue.setTimeSlots(VenueService.normalizeTimeSlots(timeSlots));
+            } catch (BadRequestException ex) {
+                row.error("timeSlots", ex.getMessage());
+            }
+            return venue;
+        }
+
+        @Override
+        public String check(Venue venue, List<Parsed<Venue>> chunk) {
+            if (venue.getOrganizationId() == null) {
+                return null;
+            }
+            organizations.prefetch(chunk, row -> row.value().getOrganizationId());
+            return organizations.exists(venue.getOrganizationId())
+                ? null : "Organization not found with id: " + venue.getOrganizationId();
+        }
+
+        @Override
+        public void insert(List<Venue> rows) {
+            bulkInsertRepository.insertVenues(rows);
+        }
+    }
+
+    /**
+     * Existence of referenced ids, looked up once per chunk for the ids not
+     * seen in earlier chunks.
+     */
+    private static final class ReferenceCheck {
+
+        private final Function<Set<Long>, List<Long>> findExisting;
+        private final Set<Long> known = new HashSet<>();
+        private final Set<Long> unknown = new HashSet<>();
+        private List<?> prefetched;
+
+        ReferenceCheck(Function<Set<Long>, List<Long>> findExisting) {
+            this.findExisting = findExisting;
+        }
+
+        /**
+         * Looks up the new ids of the chunk; true when a lookup was run.
+         */
+        <T> boolean prefetch(List<Parsed<T>> chunk, Function<Parsed<T>, Long> reference) {
+            if (prefetched == chunk) {
+                return false;
+            }
+            prefetched = chunk;
+            Set<Long> ids = new HashSet<>();
+            for (Parsed<T> row : chunk) {
+                Long id = reference.apply(row);
+                if (id != null && !known.contains(id) && !unknown.contains(id)) {
+                    ids.add(id);
+                }
+            }
+            if (ids.isEmpty()) {
+                return false;
+            }
+            known.addAll(findExisting.apply(ids));
+            ids.removeAll(known);
+            unknown.addAll(ids);
+            return true;
+        }
+
+        boolean exists(Long id) {
+            return known.contains(id);
+        }
+    }
+
+    /**
+     * One CSV record. Header names are matched case-insensitively; columns
+     * that are not read are ignored, so exports can be imported again.
+     */
+    private static final class Row {
+
+        private final long line;
+        private final List<String> fields;
+        private final Map<String, Integer> columns;
+        private final List<ImportReport.RowError> errors = new ArrayList<>(1);
+
+        Row(long line, List<String> fields, Map<String, Integer> columns) {
+            this.line = line;
+            this.fields = fields;
+            this.columns = columns;
+        }
+
+        String text(String column, int maxLength, boolean required) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            String value = index == null || index >= fields.size() ? "" : fields.get(index).trim();
+            if (value.isEmpty()) {
+                if (required) {
+                    error(column, column + " is required");
+                }
+                return null;
+            }
+            if (value.length() > maxLength) {
+                error(column, column + " is longer than " + maxLength + " characters");
+                return null;
+            }
+            return value;
+        }
+
+        Long id(String column, boolean required) {
+            String value = text(column, 20, required);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException ex) {
+                error(column, column + " is not an id: " + value);
+                return null;
+            }
+        }
+
+        Integer integer(String column, boolean required) {
+            String value = text(column, 11, required);
+            if (value == null) {
+                return null;
+            }
+            try {
+                int number = Integer.parseInt(value);
+                if (number < 0) {
+                    error(column, column + " must not be negative");
+                }
+                return number;
+            } catch (NumberFormatException ex) {
+                error(column, column + " is not a whole number: " + value);
+                return null;
+            }
+        }
+
+        void error(String column, String message) {
+            errors.add(new ImportReport.RowError(line, column, message));
+        }
+    }
+}
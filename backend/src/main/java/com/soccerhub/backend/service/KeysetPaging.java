@@ -0,0 +1,82 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset pagination. Cursors are the sort key of the last row of
+ * a page, joined with '|' and base64url encoded, so clients treat them as
+ * opaque tokens.
+ */
+final class KeysetPaging {
+
+    private KeysetPaging() {
+    }
+
+    /**
+     * Resolves the requested page size, capping it at the listing's ceiling.
+     */
+    static int pageSize(Integer requested, int defaultSize, int maxSize) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the
+     * extra row only signals that another page exists.
+     */
+    static <T> CursorPage<T> page(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    static String encode(Object... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (Object part : parts) {
+            if (joined.length() > 0) {
+                joined.append('|');
+            }
+            joined.append(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("unexpected cursor shape");
+            }
+            return parts;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String id = decode(cursor, 1)[0];
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.soccerhub.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soccerhub.backend.dto.StandingsPayload;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes match and standings changes to Server-Sent Events subscribers.
+ *
+ * Every event is serialized once and the same bytes are fanned out to all
+ * subscribers of the division. Each subscriber owns a small bounded queue that
+ * a sender thread drains, so a slow client only delays itself: when its
+ * match queue overflows the oldest events are dropped and the client is told
+ * to resync, and standings updates are coalesced so it only ever receives the
+ * latest table.
+ *
+ * Writes to a client that stops reading block their sender thread, so the
+ * sender pool grows past its core size instead of making other subscribers
+ * wait, and a subscriber whose write stays blocked for longer than the send
+ * timeout is dropped: nothing more is queued for it, and its stream ends once
+ * the blocked write returns or fails.
+ */
+@Slf4j
+@Service
+public class LiveUpdateService {
+
+    public enum Stream {
+        MATCHES, STANDINGS
+    }
+
+    private final StandingService standingService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senders;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> matchSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> standingsSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Timer deliveryLag;
+    private final Counter droppedEvents;
+    private final Counter coalescedEvents;
+    private final Counter evictedSubscribers;
+
+    public LiveUpdateService(StandingService standingService,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.live.sender-threads:8}") int senderThreads,
+                             @Value("${app.live.max-sender-threads:256}") int maxSenderThreads,
+                             @Value("${app.live.send-timeout-ms:5000}") long sendTimeoutMs,
+                             @Value("${app.live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                             @Value("${app.live.queue-capacity:32}") int queueCapacity,
+                             @Value("${app.live.max-subscribers:50000}") int maxSubscribers) {
+        this.standingService = standingService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // No task queue: a drain runs on an idle sender or a new one, never behind a blocked write
+        this.senders = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads),
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        Gauge.builder("soccerhub.live.subscribers", matchSubscribers, LiveUpdateService::count)
+            .tag("stream", "matches")
+            .description("Open match event streams")
+            .register(meterRegistry);
+        Gauge.builder("soccerhub.live.subscribers", standingsSubscribers, LiveUpdateService::count)
+            .tag("stream", "standings")
+            .description("Open standings event streams")
+            .register(meterRegistry);
+        Gauge.builder("soccerhub.live.lag.max", this, LiveUpdateService::maxLagMillis)
+            .baseUnit("milliseconds")
+            .description("Age of the oldest event not yet delivered to a subscriber")
+            .register(meterRegistry);
+        this.deliveryLag = Timer.builder("soccerhub.live.delivery.lag")
+            .description("Time from publishing an event to writing it to a subscriber")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.droppedEvents = Counter.builder("soccerhub.live.events.dropped")
+            .description("Match events dropped because a subscriber queue was full")
+            .register(meterRegistry);
+        this.coalescedEvents = Counter.builder("soccerhub.live.events.coalesced")
+            .description("Standings updates merged into an update still waiting for delivery")
+            .register(meterRegistry);
+        this.evictedSubscribers = Counter.builder("soccerhub.live.subscribers.evicted")
+            .description("Subscribers dropped because a write to them stayed blocked past the send timeout")
+            .register(meterRegistry);
+        Gauge.builder("soccerhub.live.senders.active", senders, ThreadPoolExecutor::getActiveCount)
+            .description("Sender threads writing to a subscriber")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Stream stream, Long divisionId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Live update capacity reached, try again later");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        Map<Long, Set<Subscriber>> registry = stream == Stream.MATCHES ? matchSubscribers : standingsSubscribers;
+        Subscriber subscriber = new Subscriber(stream, divisionId, emitter, registry);
+        // Callbacks first, so a stream that ends while it is being registered is removed again
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.register();
+
+        if (stream == Stream.STANDINGS) {
+            // Start every standings stream with the current table
+            subscriber.markStandingsDirty();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        Match match = event.match();
+        Set<Subscriber> subscribers = matchSubscribers.get(match.getDivisionId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(new LiveMatchEvent(event.type().name(), match.getId(),
+                event.type() == MatchChangedEvent.Type.DELETED ? null : match));
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize live event for match {}: {}", match.getId(), ex.getMessage());
+            return;
+        }
+        long publishedAt = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(payload, publishedAt);
+        }
+    }
+
+    @EventListener
+    public void onStandingsChanged(StandingsChangedEvent event) {
+        Set<Subscriber> subscribers = standingsSubscribers.get(event.divisionId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.markStandingsDirty();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        matchSubscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+        standingsSubscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+    }
+
+    /**
+     * Drops subscribers whose current write has been blocked for longer than
+     * the send timeout. Their clients reconnect and start from the current
+     * state once the stream ends.
+     */
+    @Scheduled(fixedDelayString = "${app.live.stall-check-interval-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Map<Long, Set<Subscriber>> registry : List.of(matchSubscribers, standingsSubscribers)) {
+            for (Set<Subscriber> subscribers : registry.values()) {
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.isStalled(now) && subscriber.detach()) {
+                        evictedSubscribers.increment();
+                        log.debug("Dropped stalled {} subscriber of division {}",
+                            subscriber.stream, subscriber.divisionId);
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+        try {
+            senders.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double count(Map<Long, Set<Subscriber>> registry) {
+        return registry.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private double maxLagMillis() {
+        long now = System.nanoTime();
+        long oldest = now;
+        for (Map<Long, Set<Subscriber>> registry : List.of(matchSubscribers, standingsSubscribers)) {
+            for (Set<Subscriber> subscribers : registry.values()) {
+                for (Subscriber subscriber : subscribers) {
+                    oldest = Math.min(oldest, subscriber.oldestPendingSince(now));
+                }
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(now - oldest);
+    }
+
+    private record LiveMatchEvent(String type, Long matchId, Match match) {
+    }
+
+    private record QueuedEvent(byte[] payload, long publishedAt) {
+    }
+
+    private final class Subscriber {
+        private final Stream stream;
+        private final Long divisionId;
+        private final SseEmitter emitter;
+        private final Map<Long, Set<Subscriber>> registry;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // System.nanoTime() when the write in progress started, 0 while idle
+        private volatile long sendingSince;
+
+        // Guarded by this
+        private final ArrayDeque<QueuedEvent> queue = new ArrayDeque<>();
+        private boolean overflowed;
+        private boolean standingsDirty;
+        private long standingsDirtySince;
+        private boolean heartbeatDue;
+
+        private Subscriber(Stream stream, Long divisionId, SseEmitter emitter, Map<Long, Set<Subscriber>> registry) {
+            this.stream = stream;
+            this.divisionId = divisionId;
+            this.emitter = emitter;
+            this.registry = registry;
+        }
+
+        private void register() {
+            registry.compute(divisionId, (id, subscribers) -> {
+                Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                set.add(this);
+                return set;
+            });
+            if (closed.get()) {
+                unregister();
+            }
+        }
+
+        private void unregister() {
+            registry.computeIfPresent(divisionId, (id, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+
+        private boolean isStalled(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > sendTimeoutNanos;
+        }
+
+        private void offer(byte[] payload, long publishedAt) {
+            synchronized (this) {
+                if (queue.size() == queueCapacity) {
+                    queue.pollFirst();
+                    overflowed = true;
+                    droppedEvents.increment();
+                }
+                queue.addLast(new QueuedEvent(payload, publishedAt));
+            }
+            schedule();
+        }
+
+        private void markStandingsDirty() {
+            synchronized (this) {
+                if (standingsDirty) {
+                    coalescedEvents.increment();
+                } else {
+                    standingsDirty = true;
+                    standingsDirtySince = System.nanoTime();
+                }
+            }
+            schedule();
+        }
+
+        private void heartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private synchronized long oldestPendingSince(long now) {
+            long oldest = now;
+            if (!queue.isEmpty()) {
+                oldest = queue.peekFirst().publishedAt();
+            }
+            if (standingsDirty) {
+                oldest = Math.min(oldest, standingsDirtySince);
+            }
+            return oldest;
+        }
+
+        private void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException ex) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    List<QueuedEvent> events;
+                    boolean resync;
+                    boolean standings;
+                    long standingsSince;
+                    boolean heartbeat;
+                    synchronized (this) {
+                        events = new ArrayList<>(queue);
+                        queue.clear();
+                        resync = overflowed;
+                        standings = standingsDirty;
+                        standingsSince = standingsDirtySince;
+                        heartbeat = heartbeatDue;
+                        overflowed = false;
+                        standingsDirty = false;
+                        heartbeatDue = false;
+                    }
+                    if (events.isEmpty() && !resync && !standings && !heartbeat) {
+                        return;
+                    }
+                    sendingSince = System.nanoTime();
+                    send(events, resync, standings, standingsSince, heartbeat);
+                    sendingSince = 0;
+                }
+                // Dropped while a write was blocked
+                complete();
+            } catch (IOException | RuntimeException ex) {
+                close();
+            } finally {
+                sendingSince = 0;
+                scheduled.set(false);
+                if (hasWork()) {
+                    schedule();
+                }
+            }
+        }
+
+        private synchronized boolean hasWork() {
+            return !queue.isEmpty() || overflowed || standingsDirty || heartbeatDue;
+        }
+
+        private void send(List<QueuedEvent> events, boolean resync, boolean standings, long standingsSince,
+                          boolean heartbeat) throws IOException {
+            if (resync) {
+                emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+            }
+            for (QueuedEvent event : events) {
+                emitter.send(SseEmitter.event().name("match").data(event.payload(), MediaType.APPLICATION_JSON));
+                deliveryLag.record(System.nanoTime() - event.publishedAt(), TimeUnit.NANOSECONDS);
+            }
+            if (standings) {
+                StandingsPayload payload = standingService.getStandingsPayload(divisionId);
+                emitter.send(SseEmitter.event()
+                    .name("standings")
+                    .id(payload.etag())
+                    .data(payload.body(), MediaType.APPLICATION_JSON));
+                deliveryLag.record(System.nanoTime() - standingsSince, TimeUnit.NANOSECONDS);
+            }
+            if (heartbeat && events.isEmpty() && !standings && !resync) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        private void close() {
+            if (detach()) {
+                complete();
+            }
+        }
+
+        /**
+         * Stops delivery to this subscriber without touching its emitter, which
+         * may be blocked in a write. Returns false if it was already closed.
+         */
+        private boolean detach() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscriberCount.decrementAndGet();
+            unregister();
+            return true;
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+}
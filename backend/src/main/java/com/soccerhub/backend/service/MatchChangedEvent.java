@@ -0,0 +1,14 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.entity.Match;
+
+/**
+ * Published by MatchService inside the transaction that changed the match;
+ * listeners that push to clients should react after commit.
+ */
+public record MatchChangedEvent(Type type, Match match) {
+    
+    public enum Type {
+        UPDATED, RESULT, DELETED
+    }
+}
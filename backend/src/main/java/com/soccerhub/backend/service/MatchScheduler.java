@@ -0,0 +1,611 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchBooking;
+import com.soccerhub.backend.entity.Venue;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places round-robin matches into venue time slots between two dates.
+ *
+ * Every venue offers its kick-off times on each day and a match holds its
+ * venue for the division's match length, so matches at one venue never
+ * overlap. A team plays at most once per day and its rounds are played in
+ * order. Matches already in the database, such as other divisions' fixtures
+ * at the same venues, block the slots and team days they cover.
+ *
+ * Rounds get evenly spaced target days across the date range. A greedy pass
+ * puts each match on the available day closest to its round's target and at
+ * the earliest free kick-off, preferring the least used venue on ties. A
+ * time-boxed local search then places matches the greedy pass could not by
+ * moving one blocking match elsewhere, and pulls displaced matches back
+ * toward their target days. Matches that still have no slot are reported
+ * rather than double-booked.
+ *
+ * Venue slots live in a {@link VenueCalendar} that several plans can share:
+ * the divisions of a tournament are planned in parallel on the scheduler's
+ * fork/join pool against one calendar. A plan only ever moves its own
+ * matches, so plans compete for free slots but never take each other's.
+ */
+@Component
+class MatchScheduler {
+
+    private static final int FREE = -1;
+
+    private final int defaultDurationMinutes;
+    private final List<LocalTime> defaultTimeSlots;
+    private final long searchTimeLimitNanos;
+    private final ForkJoinPool pool;
+
+    MatchScheduler(@Value("${app.schedule.default-match-duration-minutes:90}") int defaultDurationMinutes,
+                   @Value("${app.schedule.default-time-slots:10:00,12:00,14:00,16:00,18:00}") String defaultTimeSlots,
+                   @Value("${app.schedule.search-time-limit-ms:2000}") long searchTimeLimitMs,
+                   @Value("${app.schedule.parallelism:0}") int parallelism) {
+        this.defaultDurationMinutes = defaultDurationMinutes;
+        this.defaultTimeSlots = List.copyOf(Venue.parseTimeSlots(defaultTimeSlots));
+        this.searchTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(searchTimeLimitMs);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Builds the availability of the venues between firstDay and lastDay,
+     * both inclusive, around the existing bookings.
+     */
+    VenueCalendar calendar(LocalDate firstDay, LocalDate lastDay, List<Venue> venues, List<MatchBooking> bookings) {
+        VenueCalendar calendar = new VenueCalendar(firstDay, lastDay);
+        for (Venue venue : venues) {
+            List<LocalTime> slots = Venue.parseTimeSlots(venue.getTimeSlots());
+            calendar.addVenue(venue.getId(), slots.isEmpty() ? defaultTimeSlots : slots);
+        }
+        for (MatchBooking booking : bookings) {
+            calendar.book(booking.venueId(), booking.matchDate(), durationOf(booking.durationMinutes()));
+        }
+        return calendar;
+    }
+
+    /**
+     * Schedules every match of the round robin into the calendar. The
+     * bookings keep the division's teams to one match a day; their venue
+     * slots are expected to be in the calendar already.
+     */
+    Plan plan(VenueCalendar calendar, RoundRobin rounds, Integer durationMinutes, List<MatchBooking> bookings) {
+        long started = System.nanoTime();
+        Plan plan = new Plan(calendar, rounds, durationOf(durationMinutes));
+        for (MatchBooking booking : bookings) {
+            plan.blockTeams(booking);
+        }
+        plan.placeAll();
+        long deadline = System.nanoTime() + searchTimeLimitNanos;
+        plan.repair(deadline);
+        plan.compact(deadline);
+        plan.planningNanos = System.nanoTime() - started;
+        return plan;
+    }
+
+    /**
+     * Plans several round robins at once on the scheduler's fork/join pool,
+     * all against the same calendar. Plans are returned in request order.
+     */
+    List<Plan> planAll(VenueCalendar calendar, List<PlanRequest> requests) {
+        List<Callable<Plan>> tasks = new ArrayList<>(requests.size());
+        for (PlanRequest request : requests) {
+            tasks.add(() -> plan(calendar, request.rounds(), request.durationMinutes(), request.bookings()));
+        }
+        List<Plan> plans = new ArrayList<>(requests.size());
+        for (Future<Plan> future : pool.invokeAll(tasks)) {
+            try {
+                plans.add(future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while planning");
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Planning failed", ex.getCause());
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * Claims the earliest kick-off on the day, at any venue of the calendar,
+     * for a single match of the given length. Returns null when no venue has
+     * a free slot that day.
+     */
+    Slot claim(VenueCalendar calendar, LocalDate day, Integer durationMinutes) {
+        long offset = ChronoUnit.DAYS.between(calendar.firstDay(), day);
+        if (offset < 0 || offset >= calendar.days()) {
+            return null;
+        }
+        int claimed = calendar.claimEarliest((int) offset, durationOf(durationMinutes));
+        if (claimed < 0) {
+            return null;
+        }
+        int v = claimed >>> 16;
+        return new Slot(calendar.venueId(v), calendar.kickoff(v, (int) offset, claimed & 0xFFFF));
+    }
+
+    private int durationOf(Integer minutes) {
+        return minutes != null ? minutes : defaultDurationMinutes;
+    }
+
+    record PlanRequest(RoundRobin rounds, Integer durationMinutes, List<MatchBooking> bookings) {
+    }
+
+    record Slot(long venueId, LocalDateTime kickoff) {
+    }
+
+    /**
+     * Slot assignment for every match of a round robin, indexed in round
+     * order. Unplaced matches have no day, venue or kick-off.
+     */
+    static final class Plan {
+
+        private final VenueCalendar calendar;
+        private final int days;
+        private final int duration;
+
+        private final long[] teamIds;
+        private final Map<Long, Integer> teamIndex;
+        // [team * days + day] is set when the team already plays that day
+        private final boolean[] teamBusy;
+
+        private final int matchCount;
+        private final int roundCount;
+        private final int[] round;
+        private final int[] home;
+        private final int[] away;
+        private final int[] target;
+        private final int[] day;
+        private final int[] venue;
+        private final int[] slot;
+        private int placed;
+        private long planningNanos;
+
+        // Every team's matches in round order: team t's are sequence[teamStart[t] .. teamStart[t + 1]).
+        // position[2 * m] and position[2 * m + 1] locate match m in its home and away team's run,
+        // and placedBits marks the sequence entries whose match is placed, so the nearest placed
+        // round before or after a match is a short bit scan.
+        private final int[] teamStart;
+        private final int[] sequence;
+        private final int[] position;
+        private final long[] placedBits;
+
+        // This plan's matches per venue at [day * slots + s], FREE where it has none
+        private final int[][] occupant;
+        // Set once a day had no free slot at any venue, cleared when one of this plan's matches leaves it
+        private final boolean[] dayFull;
+
+        private Plan(VenueCalendar calendar, RoundRobin rounds, int duration) {
+            this.calendar = calendar;
+            this.days = calendar.days();
+            this.duration = duration;
+            this.dayFull = new boolean[days];
+            this.occupant = new int[calendar.venueCount()][];
+            for (int v = 0; v < occupant.length; v++) {
+                occupant[v] = new int[days * calendar.slotCount(v)];
+                Arrays.fill(occupant[v], FREE);
+            }
+
+            int teams = rounds.teamCount();
+            this.teamIds = new long[teams];
+            this.teamIndex = new HashMap<>(teams * 2);
+            this.teamBusy = new boolean[teams * days];
+
+            this.matchCount = Math.toIntExact(rounds.matchCount());
+            this.round = new int[matchCount];
+            this.home = new int[matchCount];
+            this.away = new int[matchCount];
+            this.target = new int[matchCount];
+            this.day = new int[matchCount];
+            this.venue = new int[matchCount];
+            this.slot = new int[matchCount];
+            Arrays.fill(day, -1);
+
+            this.roundCount = rounds.roundCount();
+            int[] index = {0};
+            rounds.forEachRound((r, homeTeamIds, awayTeamIds, matches) -> {
+                for (int i = 0; i < matches; i++) {
+                    int m = index[0]++;
+                    round[m] = r;
+                    home[m] = team(homeTeamIds[i]);
+                    away[m] = team(awayTeamIds[i]);
+                }
+            });
+
+            this.teamStart = new int[teams + 1];
+            for (int m = 0; m < matchCount; m++) {
+                teamStart[home[m] + 1]++;
+                teamStart[away[m] + 1]++;
+            }
+            for (int t = 0; t < teams; t++) {
+                teamStart[t + 1] += teamStart[t];
+            }
+            this.sequence = new int[matchCount * 2];
+            this.position = new int[matchCount * 2];
+            int[] fill = Arrays.copyOf(teamStart, teams);
+            for (int m = 0; m < matchCount; m++) {
+                position[2 * m] = fill[home[m]]++;
+                position[2 * m + 1] = fill[away[m]]++;
+                sequence[position[2 * m]] = m;
+                sequence[position[2 * m + 1]] = m;
+            }
+            this.placedBits = new long[(matchCount * 2 + 63) / 64];
+        }
+
+        private int team(long teamId) {
+            Integer existing = teamIndex.get(teamId);
+            if (existing != null) {
+                return existing;
+            }
+            int created = teamIndex.size();
+            teamIndex.put(teamId, created);
+            teamIds[created] = teamId;
+            return created;
+        }
+
+        int matchCount() {
+            return matchCount;
+        }
+
+        int placedCount() {
+            return placed;
+        }
+
+        int teamCount() {
+            return teamIds.length;
+        }
+
+        long planningTimeMs() {
+            return TimeUnit.NANOSECONDS.toMillis(planningNanos);
+        }
+
+        int round(int m) {
+            return round[m];
+        }
+
+        long homeTeamId(int m) {
+            return teamIds[home[m]];
+        }
+
+        long awayTeamId(int m) {
+            return teamIds[away[m]];
+        }
+
+        boolean isPlaced(int m) {
+            return day[m] >= 0;
+        }
+
+        LocalDateTime kickoff(int m) {
+            return calendar.kickoff(venue[m], day[m], slot[m]);
+        }
+
+        long venueId(int m) {
+            return calendar.venueId(venue[m]);
+        }
+
+        String unplacedReason(int m) {
+            if (lowerBound(m) > upperBound(m)) {
+                return "No date left between the teams' previous and next rounds";
+            }
+            return "No free venue slot on a date both teams are available";
+        }
+
+        private void blockTeams(MatchBooking booking) {
+            long offset = ChronoUnit.DAYS.between(calendar.firstDay(), booking.matchDate().toLocalDate());
+            if (offset < 0 || offset >= days) {
+                return;
+            }
+            for (Long teamId : new Long[] {booking.homeTeamId(), booking.awayTeamId()}) {
+                Integer t = teamIndex.get(teamId);
+                if (t != null) {
+                    teamBusy[t * days + (int) offset] = true;
+                }
+            }
+        }
+
+        /**
+         * Spaces the rounds evenly over the date range. A round larger than
+         * what the venues hold in a day gets a window of consecutive days and
+         * its matches target the days of that window in turn.
+         */
+        private void assignTargets() {
+            int perDay = calendar.dailyCapacity(duration);
+            int perRound = matchCount / roundCount;
+            int window = perDay == 0 ? 1 : Math.min(days, Math.max(1, (perRound + perDay - 1) / perDay));
+            double step = roundCount > 1 ? (double) (days - window) / (roundCount - 1) : 0;
+            for (int m = 0; m < matchCount; m++) {
+                int first = (int) Math.round(step * round[m]);
+                target[m] = first + (int) ((long) (m % perRound) * window / perRound);
+            }
+        }
+
+        private void placeAll() {
+            assignTargets();
+            for (int m = 0; m < matchCount; m++) {
+                place(m, Integer.MAX_VALUE);
+            }
+        }
+
+        /**
+         * Tries every unplaced match again and, where its days are full,
+         * moves one match out of its way.
+         */
+        private void repair(long deadline) {
+            for (int m = 0; m < matchCount; m++) {
+                if (System.nanoTime() > deadline) {
+                    return;
+                }
+                if (day[m] < 0 && !place(m, Integer.MAX_VALUE)) {
+                    placeByDisplacing(m, deadline);
+                }
+            }
+        }
+
+        /**
+         * Moves placed matches closer to their target day while free slots
+         * allow it, until a pass moves nothing. The new slot is claimed
+         * before the old one is released, so a match never loses its place
+         * to a plan running alongside.
+         */
+        private void compact(long deadline) {
+            boolean moved = true;
+            while (moved) {
+                moved = false;
+                for (int m = 0; m < matchCount; m++) {
+                    if (day[m] < 0 || day[m] == target[m]) {
+                        continue;
+                    }
+                    if (System.nanoTime() > deadline) {
+                        return;
+                    }
+                    long claimed = claimNear(m, Math.abs(day[m] - target[m]) - 1);
+                    if (claimed >= 0) {
+                        calendar.release(venue[m], day[m], slot[m]);
+                        unassign(m);
+                        assign(m, claimed);
+                        moved = true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Places the match on the available day closest to its target, at
+         * most maxDistance days away, within the dates its teams' other
+         * rounds leave open.
+         */
+        private boolean place(int m, int maxDistance) {
+            long claimed = claimNear(m, maxDistance);
+            if (claimed < 0) {
+                return false;
+            }
+            assign(m, claimed);
+            return true;
+        }
+
+        /**
+         * Claims a calendar slot for the match as {@link #place} would choose
+         * it, without touching the match's current placement. Returns the day
+         * in the high and the calendar's venue and slot in the low 32 bits,
+         * or -1.
+         */
+        private long claimNear(int m, int maxDistance) {
+            int lo = lowerBound(m);
+            int hi = upperBound(m);
+            int t = target[m];
+            if (lo > hi) {
+                return -1;
+            }
+            // Distances that land before lo or after hi on both sides are skipped
+            for (int distance = Math.max(0, Math.max(lo - t, t - hi)); distance <= maxDistance; distance++) {
+                int later = t + distance;
+                int earlier = t - distance;
+                if (later > hi && earlier < lo) {
+                    return -1;
+                }
+                if (later >= lo && later <= hi) {
+                    long claimed = claimOnDay(m, later);
+                    if (claimed >= 0) {
+                        return claimed;
+                    }
+                }
+                if (distance > 0 && earlier >= lo && earlier <= hi) {
+                    long claimed = claimOnDay(m, earlier);
+                    if (claimed >= 0) {
+                        return claimed;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private long claimOnDay(int m, int d) {
+            if (dayFull[d] || teamBusy[home[m] * days + d] || teamBusy[away[m] * days + d]) {
+                return -1;
+            }
+            int claimed = calendar.claimEarliest(d, duration);
+            if (claimed < 0) {
+                dayFull[d] = true;
+                return -1;
+            }
+            return (long) d << 32 | claimed;
+        }
+
+        /**
+         * Looks for a slot on one of the match's available days that is held
+         * by a match which can itself move to another free slot.
+         */
+        private void placeByDisplacing(int m, long deadline) {
+            int lo = lowerBound(m);
+            int hi = upperBound(m);
+            int t = Math.max(lo, Math.min(hi, target[m]));
+            for (int distance = 0; t + distance <= hi || t - distance >= lo; distance++) {
+                if (System.nanoTime() > deadline) {
+                    return;
+                }
+                if (displaceOnDay(m, t + distance, lo, hi)
+                    || (distance > 0 && displaceOnDay(m, t - distance, lo, hi))) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Hands the slot of one of this plan's matches on the day to m. Both
+         * matches are equally long, so the slot changes hands without being
+         * released in the calendar.
+         */
+        private boolean displaceOnDay(int m, int d, int lo, int hi) {
+            if (d < lo || d > hi || teamBusy[home[m] * days + d] || teamBusy[away[m] * days + d]) {
+                return false;
+            }
+            for (int v = 0; v < occupant.length; v++) {
+                int slots = calendar.slotCount(v);
+                for (int s = 0; s < slots; s++) {
+                    int x = occupant[v][d * slots + s];
+                    if (x < 0) {
+                        continue;
+                    }
+                    unassign(x);
+                    assign(m, d, v, s);
+                    if (place(x, Integer.MAX_VALUE)) {
+                        return true;
+                    }
+                    unassign(m);
+                    assign(x, d, v, s);
+                }
+            }
+            return false;
+        }
+
+        private int lowerBound(int m) {
+            int lo = 0;
+            for (int side = 0; side < 2; side++) {
+                int team = side == 0 ? home[m] : away[m];
+                int before = previousPlaced(position[2 * m + side] - 1, teamStart[team]);
+                if (before >= 0) {
+                    lo = Math.max(lo, day[sequence[before]] + 1);
+                }
+            }
+            return lo;
+        }
+
+        private int upperBound(int m) {
+            int hi = days - 1;
+            for (int side = 0; side < 2; side++) {
+                int team = side == 0 ? home[m] : away[m];
+                int after = nextPlaced(position[2 * m + side] + 1, teamStart[team + 1]);
+                if (after >= 0) {
+                    hi = Math.min(hi, day[sequence[after]] - 1);
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Highest placed sequence entry in [floor, from], or -1.
+         */
+        private int previousPlaced(int from, int floor) {
+            if (from < floor) {
+                return -1;
+            }
+            int word = from >>> 6;
+            long bits = placedBits[word] & (-1L >>> (63 - (from & 63)));
+            while (bits == 0) {
+                if (--word < floor >>> 6) {
+                    return -1;
+                }
+                bits = placedBits[word];
+            }
+            int found = word * 64 + 63 - Long.numberOfLeadingZeros(bits);
+            return found >= floor ? found : -1;
+        }
+
+        /**
+         * Lowest placed sequence entry in [from, ceiling), or -1.
+         */
+        private int nextPlaced(int from, int ceiling) {
+            if (from >= ceiling) {
+                return -1;
+            }
+            int word = from >>> 6;
+            long bits = placedBits[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word > (ceiling - 1) >>> 6) {
+                    return -1;
+                }
+                bits = placedBits[word];
+            }
+            int found = word * 64 + Long.numberOfTrailingZeros(bits);
+            return found < ceiling ? found : -1;
+        }
+
+        private void markPlaced(int m, boolean isPlaced) {
+            for (int side = 0; side < 2; side++) {
+                int entry = position[2 * m + side];
+                if (isPlaced) {
+                    placedBits[entry >>> 6] |= 1L << entry;
+                } else {
+                    placedBits[entry >>> 6] &= ~(1L << entry);
+                }
+            }
+        }
+
+        private void assign(int m, long claimed) {
+            int venueAndSlot = (int) claimed;
+            assign(m, (int) (claimed >>> 32), venueAndSlot >>> 16, venueAndSlot & 0xFFFF);
+        }
+
+        /**
+         * Records the match in a slot this plan holds in the calendar.
+         */
+        private void assign(int m, int d, int v, int s) {
+            occupant[v][d * calendar.slotCount(v) + s] = m;
+            teamBusy[home[m] * days + d] = true;
+            teamBusy[away[m] * days + d] = true;
+            day[m] = d;
+            venue[m] = v;
+            slot[m] = s;
+            markPlaced(m, true);
+            placed++;
+        }
+
+        /**
+         * Forgets the match's slot without releasing it in the calendar.
+         */
+        private void unassign(int m) {
+            int d = day[m];
+            occupant[venue[m]][d * calendar.slotCount(venue[m]) + slot[m]] = FREE;
+            teamBusy[home[m] * days + d] = false;
+            teamBusy[away[m] * days + d] = false;
+            dayFull[d] = false;
+            day[m] = -1;
+            markPlaced(m, false);
+            placed--;
+        }
+    }
+}
@@ -1,35 +1,88 @@
 package com.soccerhub.backend.service;
 
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.dto.MatchFilter;
+import com.soccerhub.backend.dto.MatchResultBatchResponse;
 import com.soccerhub.backend.dto.MatchResultRequest;
+import com.soccerhub.backend.dto.MatchSummary;
+import com.soccerhub.backend.dto.StandingDelta;
 import com.soccerhub.backend.entity.Division;
 import com.soccerhub.backend.entity.Match;
-import com.soccerhub.backend.entity.Standing;
-import com.soccerhub.backend.entity.Tournament;
 import com.soccerhub.backend.exception.BadRequestException;
 import com.soccerhub.backend.exception.ResourceNotFoundException;
 import com.soccerhub.backend.repository.DivisionRepository;
 import com.soccerhub.backend.repository.MatchRepository;
-import com.soccerhub.backend.repository.StandingRepository;
-import com.soccerhub.backend.repository.TournamentRepository;
+import com.soccerhub.backend.repository.ProjectionQueries;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.soccerhub.backend.repository.MatchSpecifications.after;
+import static com.soccerhub.backend.repository.MatchSpecifications.atVenue;
+import static com.soccerhub.backend.repository.MatchSpecifications.hasStatus;
+import static com.soccerhub.backend.repository.MatchSpecifications.inDivision;
+import static com.soccerhub.backend.repository.MatchSpecifications.inPlayoffRound;
+import static com.soccerhub.backend.repository.MatchSpecifications.inTournament;
+import static com.soccerhub.backend.repository.MatchSpecifications.involvingTeam;
+import static com.soccerhub.backend.repository.MatchSpecifications.playedBefore;
+import static com.soccerhub.backend.repository.MatchSpecifications.playedFrom;
 
 @Service
 @RequiredArgsConstructor
 public class MatchService {
     
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort LISTING_ORDER = Sort.by("matchDate", "id");
+    
     private final MatchRepository matchRepository;
-    private final StandingRepository standingRepository;
+    private final ProjectionQueries projectionQueries;
+    private final StandingService standingService;
     private final DivisionRepository divisionRepository;
-    private final TournamentRepository tournamentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathMetrics metrics;
     
-    public List<Match> getAllMatches() {
-        return matchRepository.findAll();
+    /**
+     * Lists matches in (matchDate, id) order, one keyset page at a time.
+     * Filters are combined with AND.
+     */
+    public CursorPage<MatchSummary> findMatches(MatchFilter filter, String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<Match> spec = Specification.where(inDivision(filter.getDivisionId()))
+            .and(inTournament(filter.getTournamentId()))
+            .and(involvingTeam(filter.getTeamId()))
+            .and(atVenue(filter.getVenueId()))
+            .and(hasStatus(parseStatus(filter.getStatus())))
+            .and(inPlayoffRound(filter.getPlayoffRound()))
+            .and(playedFrom(filter.getFrom()))
+            .and(playedBefore(filter.getTo()));
+        if (cursor != null && !cursor.isBlank()) {
+            String[] key = KeysetPaging.decode(cursor, 2);
+            try {
+                spec = spec.and(after(LocalDateTime.parse(key[0]), Long.valueOf(key[1])));
+            } catch (RuntimeException ex) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+        }
+        List<MatchSummary> rows = projectionQueries.findAll(Match.class, MatchSummary.class, spec, LISTING_ORDER, size + 1);
+        return KeysetPaging.page(rows, size, match -> KeysetPaging.encode(match.matchDate(), match.id()));
     }
     
     public Match getMatchById(Long id) {
@@ -37,20 +90,14 @@ public class MatchService {
             .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
     }
     
-    public List<Match> getMatchesByDivisionId(Long divisionId) {
-        return matchRepository.findByDivisionId(divisionId);
-    }
-    
-    public List<Match> getMatchesByTeamId(Long teamId) {
-        return matchRepository.findByHomeTeamIdOrAwayTeamId(teamId, teamId);
-    }
-    
     @Transactional
     public Match createMatch(Match match) {
         if (match.getHomeTeamId().equals(match.getAwayTeamId())) {
             throw new BadRequestException("Home team and away team cannot be the same");
         }
-        return matchRepository.save(match);
+        match = matchRepository.save(match);
+        matchRepository.syncFixtures(List.of(match));
+        return match;
     }
     
     @Transactional
@@ -66,189 +113,266 @@ public class MatchService {
         match.setPlayoffRound(matchDetails.getPlayoffRound());
         match.setStatus(matchDetails.getStatus());
         match.setRefereeId(matchDetails.getRefereeId());
-        return matchRepository.save(match);
+        match = matchRepository.save(match);
+        matchRepository.syncFixtures(List.of(match));
+        eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, match));
+        return match;
     }
     
     @Transactional
     public Match updateMatchResult(Long id, MatchResultRequest result) {
-        Match match = getMatchById(id);
+        Timer.Sample sample = metrics.start();
+        Long divisionId = null;
+        String stage = null;
+        RuntimeException failure = null;
+        try {
+            // Lock the row so concurrent submissions for the same match see each
+            // other's result and reverse it instead of double counting.
+            Match match = getMatchForUpdate(id);
+            divisionId = match.getDivisionId();
+            stage = match.getPlayoffRound() == null ? "league" : "playoff";
+            
+            boolean wasCompleted = match.getStatus() == Match.Status.COMPLETED;
+            Integer oldHomeScore = match.getHomeScore();
+            Integer oldAwayScore = match.getAwayScore();
+            
+            match.setHomeScore(result.getHomeScore());
+            match.setAwayScore(result.getAwayScore());
+            match.setStatus(Match.Status.COMPLETED);
+            match = matchRepository.save(match);
+            
+            if (match.getPlayoffRound() == null) {
+                if (wasCompleted && oldHomeScore != null && oldAwayScore != null) {
+                    standingService.reverseResult(match.getDivisionId(), match.getHomeTeamId(),
+                                                  match.getAwayTeamId(), oldHomeScore, oldAwayScore);
+                }
+
+                standingService.recordResult(match.getDivisionId(), match.getHomeTeamId(),
+                                             match.getAwayTeamId(), result.getHomeScore(), result.getAwayScore());
+            } else {
+                recordPenalties(match, result);
+                handlePlayoffProgression(match);
+            }
+            
+            eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.RESULT, match));
+            return match;
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.stop(sample, "soccerhub.match.result.update", failure, "division", divisionId, "stage", stage);
+        }
+    }
+    
+    /**
+     * Records many results at once. Entries are grouped by division and each
+     * division is written in its own transaction: matches are updated in JDBC
+     * batches and the standings deltas of all its matches are summed per team
+     * before being written. A failing division does not affect the others.
+     */
+    public MatchResultBatchResponse submitResults(List<MatchResultRequest> results) {
+        if (results == null || results.isEmpty()) {
+            throw new BadRequestException("At least one result is required");
+        }
+        if (results.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch may contain at most " + MAX_BATCH_SIZE + " results");
+        }
         
-        boolean wasCompleted = match.getStatus() == Match.Status.COMPLETED;
-        Integer oldHomeScore = match.getHomeScore();
-        Integer oldAwayScore = match.getAwayScore();
+        MatchResultBatchResponse.ItemResult[] outcomes = new MatchResultBatchResponse.ItemResult[results.size()];
+        Map<Long, Integer> indexByMatchId = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            MatchResultRequest result = results.get(i);
+            Long matchId = result == null ? null : result.getMatchId();
+            String error = null;
+            if (matchId == null) {
+                error = "Match id is required";
+            } else if (result.getHomeScore() == null || result.getAwayScore() == null) {
+                error = "Home score and away score are required";
+            } else if (indexByMatchId.putIfAbsent(matchId, i) != null) {
+                error = "Duplicate result for match id: " + matchId;
+            }
+            if (error != null) {
+                outcomes[i] = new MatchResultBatchResponse.ItemResult(i, matchId, false, error);
+            }
+        }
         
-        match.setHomeScore(result.getHomeScore());
-        match.setAwayScore(result.getAwayScore());
-        match.setStatus(Match.Status.COMPLETED);
-        match = matchRepository.save(match);
+        Map<Long, List<Long>> matchIdsByDivision = new LinkedHashMap<>();
+        List<Long> requestedIds = new ArrayList<>(indexByMatchId.keySet());
+        for (int from = 0; from < requestedIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, requestedIds.size()));
+            for (Match match : matchRepository.findAllById(chunk)) {
+                matchIdsByDivision.computeIfAbsent(match.getDivisionId(), id -> new ArrayList<>()).add(match.getId());
+            }
+        }
         
-        if (match.getPlayoffRound() == null) {
-            if (wasCompleted && oldHomeScore != null && oldAwayScore != null) {
-                reverseStandingsUpdate(match.getDivisionId(), match.getHomeTeamId(),
-                                      match.getAwayTeamId(), oldHomeScore, oldAwayScore);
+        matchIdsByDivision.forEach((divisionId, matchIds) -> {
+            String error = null;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    applyResults(matchIds, results, indexByMatchId));
+            } catch (RuntimeException ex) {
+                error = "Division " + divisionId + " could not be updated: " + ex.getMessage();
             }
-
-            updateStandings(match.getDivisionId(), match.getHomeTeamId(),
-                           match.getAwayTeamId(), result.getHomeScore(), result.getAwayScore());
-        } else {
-            handlePlayoffProgression(match);
+            for (Long matchId : matchIds) {
+                int index = indexByMatchId.get(matchId);
+                outcomes[index] = new MatchResultBatchResponse.ItemResult(index, matchId, error == null, error);
+            }
+        });
+        
+        indexByMatchId.forEach((matchId, index) -> {
+            if (outcomes[index] == null) {
+                outcomes[index] = new MatchResultBatchResponse.ItemResult(
+                    index, matchId, false, "Match not found with id: " + matchId);
+            }
+        });
+        
+        int succeeded = (int) Arrays.stream(outcomes).filter(MatchResultBatchResponse.ItemResult::isSuccess).count();
+        return new MatchResultBatchResponse(results.size(), succeeded, results.size() - succeeded, Arrays.asList(outcomes));
+    }
+    
+    private void applyResults(List<Long> matchIds, List<MatchResultRequest> results, Map<Long, Integer> indexByMatchId) {
+        List<Match> matches = new ArrayList<>(matchIds.size());
+        for (int from = 0; from < matchIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            matches.addAll(matchRepository.findAllByIdForUpdate(
+                matchIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, matchIds.size()))));
         }
         
-        return match;
+        Map<Long, Map<Long, StandingDelta>> deltasByDivision = new HashMap<>();
+        List<Match> playoffMatches = new ArrayList<>();
+        for (Match match : matches) {
+            MatchResultRequest result = results.get(indexByMatchId.get(match.getId()));
+            boolean wasCompleted = match.getStatus() == Match.Status.COMPLETED;
+            Integer oldHomeScore = match.getHomeScore();
+            Integer oldAwayScore = match.getAwayScore();
+            
+            match.setHomeScore(result.getHomeScore());
+            match.setAwayScore(result.getAwayScore());
+            match.setStatus(Match.Status.COMPLETED);
+            
+            if (match.getPlayoffRound() == null) {
+                Map<Long, StandingDelta> deltas = deltasByDivision.computeIfAbsent(match.getDivisionId(), id -> new HashMap<>());
+                if (wasCompleted && oldHomeScore != null && oldAwayScore != null) {
+                    StandingDelta.reversing(match.getHomeTeamId(), match.getAwayTeamId(), oldHomeScore, oldAwayScore)
+                        .forEach(delta -> deltas.merge(delta.teamId(), delta, StandingDelta::plus));
+                }
+                StandingDelta.forResult(match.getHomeTeamId(), match.getAwayTeamId(), result.getHomeScore(), result.getAwayScore())
+                    .forEach(delta -> deltas.merge(delta.teamId(), delta, StandingDelta::plus));
+            } else {
+                recordPenalties(match, result);
+                playoffMatches.add(match);
+            }
+        }
+        
+        matchRepository.saveAll(matches);
+        matches.forEach(match -> eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.RESULT, match)));
+        deltasByDivision.forEach((divisionId, deltas) -> standingService.writeDeltas(divisionId, deltas.values()));
+        playoffMatches.forEach(this::handlePlayoffProgression);
     }
     
     @Transactional
     public void deleteMatch(Long id) {
-        Match match = getMatchById(id);
+        Match match = getMatchForUpdate(id);
         
         if (match.getPlayoffRound() == null && match.getStatus() == Match.Status.COMPLETED &&
             match.getHomeScore() != null && match.getAwayScore() != null) {
-            reverseStandingsUpdate(match.getDivisionId(), match.getHomeTeamId(), 
-                                  match.getAwayTeamId(), match.getHomeScore(), match.getAwayScore());
+            standingService.reverseResult(match.getDivisionId(), match.getHomeTeamId(),
+                                          match.getAwayTeamId(), match.getHomeScore(), match.getAwayScore());
         }
         
         matchRepository.delete(match);
+        eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.DELETED, match));
     }
     
-    private void updateStandings(Long divisionId, Long homeTeamId, Long awayTeamId, 
-                                Integer homeScore, Integer awayScore) {
-        Standing homeStanding = getOrCreateStanding(divisionId, homeTeamId);
-        Standing awayStanding = getOrCreateStanding(divisionId, awayTeamId);
-        
-        homeStanding.setPlayed(homeStanding.getPlayed() + 1);
-        awayStanding.setPlayed(awayStanding.getPlayed() + 1);
-        
-        homeStanding.setGoalsFor(homeStanding.getGoalsFor() + homeScore);
-        homeStanding.setGoalsAgainst(homeStanding.getGoalsAgainst() + awayScore);
-        awayStanding.setGoalsFor(awayStanding.getGoalsFor() + awayScore);
-        awayStanding.setGoalsAgainst(awayStanding.getGoalsAgainst() + homeScore);
-        
-        if (homeScore > awayScore) {
-            homeStanding.setWon(homeStanding.getWon() + 1);
-            homeStanding.setPoints(homeStanding.getPoints() + 3);
-            awayStanding.setLost(awayStanding.getLost() + 1);
-        } else if (homeScore < awayScore) {
-            awayStanding.setWon(awayStanding.getWon() + 1);
-            awayStanding.setPoints(awayStanding.getPoints() + 3);
-            homeStanding.setLost(homeStanding.getLost() + 1);
-        } else {
-            homeStanding.setDrawn(homeStanding.getDrawn() + 1);
-            homeStanding.setPoints(homeStanding.getPoints() + 1);
-            awayStanding.setDrawn(awayStanding.getDrawn() + 1);
-            awayStanding.setPoints(awayStanding.getPoints() + 1);
+    private Match.Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Match.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown match status: " + status);
         }
-        
-        homeStanding.setGoalDifference(homeStanding.getGoalsFor() - homeStanding.getGoalsAgainst());
-        awayStanding.setGoalDifference(awayStanding.getGoalsFor() - awayStanding.getGoalsAgainst());
-        
-        standingRepository.save(homeStanding);
-        standingRepository.save(awayStanding);
+    }
+    
+    private Match getMatchForUpdate(Long id) {
+        return matchRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
     }
 
+    /**
+     * Moves the winner of a completed bracket match into the match its link
+     * points at, and the loser of a semifinal into the third-place match.
+     * Each move is one lookup and one update.
+     */
     private void handlePlayoffProgression(Match completedMatch) {
-        if (!"SEMIFINAL".equalsIgnoreCase(completedMatch.getPlayoffRound())) {
-            return;
+        if (completedMatch.getHomeTeamId() == null || completedMatch.getAwayTeamId() == null) {
+            throw new BadRequestException("Playoff match " + completedMatch.getId()
+                + " has no result until both of its teams are known");
         }
+        Match.Side winner = winningSide(completedMatch);
+        Match.Side loser = winner == Match.Side.HOME ? Match.Side.AWAY : Match.Side.HOME;
+        advance(completedMatch, winner, completedMatch.getNextMatchId(), completedMatch.getNextMatchSide());
+        advance(completedMatch, loser, completedMatch.getLoserNextMatchId(), completedMatch.getLoserNextMatchSide());
+    }
 
-        List<Match> semifinals = matchRepository.findByDivisionIdAndPlayoffRound(
-            completedMatch.getDivisionId(), "SEMIFINAL");
-
-        boolean allCompleted = semifinals.stream().allMatch(match ->
-            match.getStatus() == Match.Status.COMPLETED &&
-            match.getHomeScore() != null &&
-            match.getAwayScore() != null
-        );
+    private Match.Side winningSide(Match match) {
+        int homeScore = match.getHomeScore();
+        int awayScore = match.getAwayScore();
+        if (homeScore != awayScore) {
+            return homeScore > awayScore ? Match.Side.HOME : Match.Side.AWAY;
+        }
+        Division.PlayoffTiebreak tiebreak = divisionRepository.findById(match.getDivisionId())
+            .map(Division::getPlayoffTiebreak)
+            .orElse(null);
+        if (tiebreak == Division.PlayoffTiebreak.HOME_TEAM) {
+            return Match.Side.HOME;
+        }
+        if (tiebreak == Division.PlayoffTiebreak.PENALTIES) {
+            Integer homePenalties = match.getHomePenalties();
+            Integer awayPenalties = match.getAwayPenalties();
+            if (homePenalties == null || awayPenalties == null || homePenalties.equals(awayPenalties)) {
+                throw new BadRequestException("Playoff match " + match.getId()
+                    + " ended level; a deciding penalty score is required");
+            }
+            return homePenalties > awayPenalties ? Match.Side.HOME : Match.Side.AWAY;
+        }
+        // HIGHER_SEED; matches without seeds, e.g. created by hand, go to the home team
+        if (match.getHomeSeed() != null && match.getAwaySeed() != null && match.getAwaySeed() < match.getHomeSeed()) {
+            return Match.Side.AWAY;
+        }
+        return Match.Side.HOME;
+    }
 
-        if (!allCompleted) {
+    private void advance(Match from, Match.Side side, Long nextMatchId, Match.Side nextSide) {
+        if (nextMatchId == null) {
             return;
         }
-
-        List<Long> winners = semifinals.stream()
-            .map(match -> match.getHomeScore() >= match.getAwayScore()
-                ? match.getHomeTeamId()
-                : match.getAwayTeamId())
-            .toList();
-
-        if (winners.size() < 2) {
+        Match next = getMatchForUpdate(nextMatchId);
+        Long teamId = side == Match.Side.HOME ? from.getHomeTeamId() : from.getAwayTeamId();
+        Integer seed = side == Match.Side.HOME ? from.getHomeSeed() : from.getAwaySeed();
+        Long seated = nextSide == Match.Side.HOME ? next.getHomeTeamId() : next.getAwayTeamId();
+        if (Objects.equals(seated, teamId)) {
             return;
         }
-
-        List<Match> finals = matchRepository.findByDivisionIdAndPlayoffRound(
-            completedMatch.getDivisionId(), "FINAL");
-        Match finalMatch = finals.isEmpty() ? null : finals.get(0);
-
-        if (finalMatch == null) {
-            Division division = divisionRepository.findById(completedMatch.getDivisionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Division not found with id: " + completedMatch.getDivisionId()));
-            Tournament tournament = tournamentRepository.findById(division.getTournamentId())
-                .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + division.getTournamentId()));
-            LocalDateTime matchDate = tournament.getEndDate().atTime(LocalTime.NOON);
-
-            Match match = new Match();
-            match.setDivisionId(completedMatch.getDivisionId());
-            match.setHomeTeamId(winners.get(0));
-            match.setAwayTeamId(winners.get(1));
-            match.setMatchDate(matchDate);
-            match.setStatus(Match.Status.SCHEDULED);
-            match.setPlayoffRound("FINAL");
-            matchRepository.save(match);
-        } else {
-            finalMatch.setHomeTeamId(winners.get(0));
-            finalMatch.setAwayTeamId(winners.get(1));
-            matchRepository.save(finalMatch);
+        if (next.getStatus() == Match.Status.COMPLETED) {
+            throw new BadRequestException("Match " + next.getId() + " was already played by team " + seated
+                + "; its result must be removed before this result can change who advances");
         }
-    }
-    
-    private void reverseStandingsUpdate(Long divisionId, Long homeTeamId, Long awayTeamId, 
-                                       Integer homeScore, Integer awayScore) {
-        Standing homeStanding = getOrCreateStanding(divisionId, homeTeamId);
-        Standing awayStanding = getOrCreateStanding(divisionId, awayTeamId);
-        
-        homeStanding.setPlayed(homeStanding.getPlayed() - 1);
-        awayStanding.setPlayed(awayStanding.getPlayed() - 1);
-        
-        homeStanding.setGoalsFor(homeStanding.getGoalsFor() - homeScore);
-        homeStanding.setGoalsAgainst(homeStanding.getGoalsAgainst() - awayScore);
-        awayStanding.setGoalsFor(awayStanding.getGoalsFor() - awayScore);
-        awayStanding.setGoalsAgainst(awayStanding.getGoalsAgainst() - homeScore);
-        
-        if (homeScore > awayScore) {
-            homeStanding.setWon(homeStanding.getWon() - 1);
-            homeStanding.setPoints(homeStanding.getPoints() - 3);
-            awayStanding.setLost(awayStanding.getLost() - 1);
-        } else if (homeScore < awayScore) {
-            awayStanding.setWon(awayStanding.getWon() - 1);
-            awayStanding.setPoints(awayStanding.getPoints() - 3);
-            homeStanding.setLost(homeStanding.getLost() - 1);
+        if (nextSide == Match.Side.HOME) {
+            next.setHomeTeamId(teamId);
+            next.setHomeSeed(seed);
         } else {
-            homeStanding.setDrawn(homeStanding.getDrawn() - 1);
-            homeStanding.setPoints(homeStanding.getPoints() - 1);
-            awayStanding.setDrawn(awayStanding.getDrawn() - 1);
-            awayStanding.setPoints(awayStanding.getPoints() - 1);
+            next.setAwayTeamId(teamId);
+            next.setAwaySeed(seed);
         }
-        
-        homeStanding.setGoalDifference(homeStanding.getGoalsFor() - homeStanding.getGoalsAgainst());
-        awayStanding.setGoalDifference(awayStanding.getGoalsFor() - awayStanding.getGoalsAgainst());
-        
-        standingRepository.save(homeStanding);
-        standingRepository.save(awayStanding);
+        next = matchRepository.save(next);
+        matchRepository.syncFixtures(List.of(next));
+        eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, next));
     }
-    
-    private Standing getOrCreateStanding(Long divisionId, Long teamId) {
-        return standingRepository.findByDivisionIdAndTeamId(divisionId, teamId)
-            .orElseGet(() -> {
-                Standing standing = new Standing();
-                standing.setDivisionId(divisionId);
-                standing.setTeamId(teamId);
-                standing.setPlayed(0);
-                standing.setWon(0);
-                standing.setDrawn(0);
-                standing.setLost(0);
-                standing.setGoalsFor(0);
-                standing.setGoalsAgainst(0);
-                standing.setGoalDifference(0);
-                standing.setPoints(0);
-                return standingRepository.save(standing);
-            });
+
+    private static void recordPenalties(Match match, MatchResultRequest result) {
+        boolean level = result.getHomeScore().equals(result.getAwayScore());
+        match.setHomePenalties(level ? result.getHomePenalties() : null);
+        match.setAwayPenalties(level ? result.getAwayPenalties() : null);
     }
 }
@@ -1,22 +1,41 @@
 package com.soccerhub.backend.service;
 
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.dto.PlayerSummary;
 import com.soccerhub.backend.entity.Player;
 import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.repository.ProjectionQueries;
 import com.soccerhub.backend.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static com.soccerhub.backend.repository.KeysetSpecifications.attributeEquals;
+import static com.soccerhub.backend.repository.KeysetSpecifications.idAfter;
+
 @Service
 @RequiredArgsConstructor
 public class PlayerService {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    
     private final PlayerRepository playerRepository;
+    private final ProjectionQueries projectionQueries;
     
-    public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+    /**
+     * Lists players in id order, one keyset page at a time.
+     */
+    public CursorPage<PlayerSummary> findPlayers(Long teamId, String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<Player> spec = Specification.<Player>where(attributeEquals("teamId", teamId))
+            .and(idAfter(KeysetPaging.decodeId(cursor)));
+        List<PlayerSummary> rows = projectionQueries.findAll(Player.class, PlayerSummary.class, spec, Sort.by("id"), size + 1);
+        return KeysetPaging.page(rows, size, player -> KeysetPaging.encode(player.id()));
     }
     
     public Player getPlayerById(Long id) {
@@ -24,10 +43,6 @@ public class PlayerService {
             .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + id));
     }
     
-    public List<Player> getPlayersByTeamId(Long teamId) {
-        return playerRepository.findByTeamId(teamId);
-    }
-    
     @Transactional
     public Player createPlayer(Player player) {
         return playerRepository.save(player);
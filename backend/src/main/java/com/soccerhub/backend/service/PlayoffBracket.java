@@ -0,0 +1,98 @@
+package com.soccerhub.backend.service;
+
+/**
+ * Single-elimination bracket for any number of seeded teams.
+ *
+ * The bracket has as many lines as the next power of two. Seeds are placed
+ * with the standard pattern, so in every round the best remaining seed meets
+ * the worst one (1 v 8, 4 v 5, 2 v 7, 3 v 6 for eight lines) and seeds 1 and 2
+ * can only meet in the final. Lines beyond the team count are byes, which the
+ * top seeds receive: a first-round pairing with a bye is not played and the
+ * seed starts in the second round.
+ *
+ * Matches are addressed by round (0 is the first) and position within the
+ * round. The winner of (round, p) moves to (round + 1, p / 2), as the home
+ * team for even p and the away team for odd p.
+ */
+public final class PlayoffBracket {
+
+    public static final String THIRD_PLACE = "THIRD_PLACE";
+
+    private final int teams;
+    private final int size;
+    private final int roundCount;
+    private final boolean thirdPlace;
+    // seeds[line] = 1-based seed on the bracket line, or 0 for a bye
+    private final int[] seeds;
+
+    public PlayoffBracket(int teams, boolean thirdPlace) {
+        if (teams < 2) {
+            throw new IllegalArgumentException("A bracket needs at least 2 teams");
+        }
+        if (thirdPlace && teams < 4) {
+            throw new IllegalArgumentException("A third-place match needs at least 4 teams");
+        }
+        this.teams = teams;
+        this.size = Integer.highestOneBit(teams - 1) << 1;
+        this.roundCount = Integer.numberOfTrailingZeros(size);
+        this.thirdPlace = thirdPlace;
+
+        int[] order = {1};
+        while (order.length < size) {
+            int[] next = new int[order.length * 2];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = order.length * 2 + 1 - order[i];
+            }
+            order = next;
+        }
+        this.seeds = new int[size];
+        for (int line = 0; line < size; line++) {
+            seeds[line] = order[line] <= teams ? order[line] : 0;
+        }
+    }
+
+    public int teamCount() {
+        return teams;
+    }
+
+    public int roundCount() {
+        return roundCount;
+    }
+
+    public boolean hasThirdPlace() {
+        return thirdPlace;
+    }
+
+    public int matchesInRound(int round) {
+        return size >>> (round + 1);
+    }
+
+    /**
+     * Seed of the home (0) or away (1) side of a first-round pairing, or 0
+     * for a bye.
+     */
+    public int firstRoundSeed(int position, int side) {
+        return seeds[2 * position + side];
+    }
+
+    /**
+     * Whether the match is played; only first-round pairings with a bye are not.
+     */
+    public boolean isPlayed(int round, int position) {
+        return round > 0 || (seeds[2 * position] != 0 && seeds[2 * position + 1] != 0);
+    }
+
+    /**
+     * Round label stored on the matches, e.g. FINAL, SEMIFINAL or ROUND_OF_16.
+     */
+    public String roundName(int round) {
+        int remaining = size >>> round;
+        return switch (remaining) {
+            case 2 -> "FINAL";
+            case 4 -> "SEMIFINAL";
+            case 8 -> "QUARTERFINAL";
+            default -> "ROUND_OF_" + remaining;
+        };
+    }
+}
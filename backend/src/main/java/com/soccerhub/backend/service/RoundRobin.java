@@ -0,0 +1,118 @@
+package com.soccerhub.backend.service;
+
+/**
+ * Round-robin schedule built with the circle method on primitive arrays.
+ *
+ * Teams occupy slots 0..m-1 (m even; an odd team count gets a bye slot). In
+ * round r the last slot meets slot r and every other slot r+k meets r-k
+ * (mod m-1). Home and away alternate with the round for the fixed slot and
+ * with k for the others, which yields the minimum number of breaks and never
+ * more than two consecutive home or away games for any team. The second leg
+ * of a double round robin replays the first with home and away swapped,
+ * starting from the second round so the legs join without a third game in a
+ * row at the same venue.
+ *
+ * Rounds are computed on demand into caller supplied arrays, so a schedule of
+ * any size is produced without allocating per round or per match.
+ */
+public final class RoundRobin {
+
+    private final long[] teamIds;
+    private final int slots;
+    private final int roundsPerLeg;
+    private final int legs;
+
+    public RoundRobin(long[] teamIds, int legs) {
+        if (teamIds.length < 2) {
+            throw new IllegalArgumentException("A round robin needs at least 2 teams");
+        }
+        if (legs != 1 && legs != 2) {
+            throw new IllegalArgumentException("A round robin has 1 or 2 legs, not " + legs);
+        }
+        this.teamIds = teamIds.clone();
+        this.slots = teamIds.length % 2 == 0 ? teamIds.length : teamIds.length + 1;
+        this.roundsPerLeg = slots - 1;
+        this.legs = legs;
+    }
+
+    public int teamCount() {
+        return teamIds.length;
+    }
+
+    public int roundCount() {
+        return roundsPerLeg * legs;
+    }
+
+    /**
+     * Matches in every round; with an odd team count one team rests each round.
+     */
+    public int matchesPerRound() {
+        return teamIds.length / 2;
+    }
+
+    public long matchCount() {
+        return (long) roundCount() * matchesPerRound();
+    }
+
+    /**
+     * Writes the pairings of the given round (0-based) into home and away,
+     * which must hold at least {@link #matchesPerRound()} entries, and
+     * returns the number of matches written.
+     */
+    public int fillRound(int round, long[] home, long[] away) {
+        if (round < 0 || round >= roundCount()) {
+            throw new IndexOutOfBoundsException("Round " + round + " of " + roundCount());
+        }
+        boolean secondLeg = round >= roundsPerLeg;
+        int base = secondLeg ? (round - roundsPerLeg + 1) % roundsPerLeg : round;
+        int fixed = slots - 1;
+
+        int count = 0;
+        if (fixed < teamIds.length) {
+            count = put(home, away, count, base % 2 == 0 ? fixed : base, base % 2 == 0 ? base : fixed, secondLeg);
+        }
+        for (int k = 1; k < slots / 2; k++) {
+            int up = base + k;
+            if (up >= roundsPerLeg) {
+                up -= roundsPerLeg;
+            }
+            int down = base - k;
+            if (down < 0) {
+                down += roundsPerLeg;
+            }
+            count = k % 2 == 1
+                ? put(home, away, count, up, down, secondLeg)
+                : put(home, away, count, down, up, secondLeg);
+        }
+        return count;
+    }
+
+    /**
+     * Streams every round to the consumer in order. The arrays passed to the
+     * consumer are reused for the next round.
+     */
+    public void forEachRound(RoundConsumer consumer) {
+        long[] home = new long[matchesPerRound()];
+        long[] away = new long[matchesPerRound()];
+        for (int round = 0; round < roundCount(); round++) {
+            int count = fillRound(round, home, away);
+            consumer.accept(round, home, away, count);
+        }
+    }
+
+    private int put(long[] home, long[] away, int count, int homeSlot, int awaySlot, boolean swap) {
+        if (swap) {
+            home[count] = teamIds[awaySlot];
+            away[count] = teamIds[homeSlot];
+        } else {
+            home[count] = teamIds[homeSlot];
+            away[count] = teamIds[awaySlot];
+        }
+        return count + 1;
+    }
+
+    @FunctionalInterface
+    public interface RoundConsumer {
+        void accept(int round, long[] homeTeamIds, long[] awayTeamIds, int matches);
+    }
+}
@@ -0,0 +1,246 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.ScheduleJobRequest;
+import com.soccerhub.backend.dto.ScheduleJobResponse;
+import com.soccerhub.backend.dto.ScheduleJobResponse.Status;
+import com.soccerhub.backend.dto.ScheduleResponse;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.exception.BadRequestException;
+import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs schedule and playoff generation as background jobs. Every job gets
+ * its own virtual thread, while a semaphore bounds how many generate at once:
+ * each running job holds a database connection for its whole transaction.
+ * Jobs beyond that wait in line, and submissions are refused once too many
+ * are waiting. Finished jobs are kept for the retention period so clients
+ * can poll their outcome.
+ *
+ * Cancellation is cooperative. A waiting job is cancelled at once; a running
+ * one stops at its next progress report and its transaction rolls back, so a
+ * cancelled job never leaves a partial schedule behind.
+ */
+@Slf4j
+@Service
+public class ScheduleJobService {
+
+    private static final long QUEUE_POLL_MS = 500;
+
+    private final DivisionService divisionService;
+    private final Semaphore runningJobs;
+    private final int maxQueued;
+    private final Duration retention;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("schedule-job-", 0).factory());
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public ScheduleJobService(DivisionService divisionService,
+                              @Value("${app.schedule.jobs.max-concurrent:2}") int maxConcurrent,
+                              @Value("${app.schedule.jobs.max-queued:100}") int maxQueued,
+                              @Value("${app.schedule.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.divisionService = divisionService;
+        this.runningJobs = new Semaphore(maxConcurrent, true);
+        this.maxQueued = maxQueued;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    public ScheduleJobResponse submit(ScheduleJobRequest request) {
+        // Fail fast on an unknown division instead of in the background
+        divisionService.getDivisionById(request.getDivisionId());
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw new ServiceUnavailableException("Too many schedule jobs are waiting, try again later");
+        }
+        Job job = new Job(UUID.randomUUID().toString(), request);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    public ScheduleJobResponse getJob(String id) {
+        return job(id).toResponse();
+    }
+
+    public ScheduleJobResponse cancel(String id) {
+        Job job = job(id);
+        if (job.status.isFinished()) {
+            throw new BadRequestException("Schedule job " + id + " has already finished");
+        }
+        job.cancelRequested = true;
+        job.finish(Status.QUEUED, Status.CANCELLED, null);
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${app.schedule.jobs.cleanup-interval-ms:60000}")
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        jobs.values().forEach(job -> job.cancelRequested = true);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private Job job(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Schedule job not found with id: " + id);
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        try {
+            if (!awaitTurn(job)) {
+                return;
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+        try {
+            if (!job.start()) {
+                return;
+            }
+            switch (job.type) {
+                case SCHEDULE -> {
+                    ScheduleResponse result = divisionService.generateSchedule(
+                        job.divisionId, job.doubleRoundRobin, job);
+                    job.succeed(result.getMatches().size(), result.getUnscheduled());
+                }
+                case PLAYOFFS -> {
+                    List<Match> matches = divisionService.generatePlayoffs(
+                        job.divisionId, job.playoffTeams, job.thirdPlace, job);
+                    job.succeed(matches.size(), List.of());
+                }
+            }
+        } catch (CancellationException ex) {
+            job.finish(Status.RUNNING, Status.CANCELLED, null);
+        } catch (RuntimeException ex) {
+            log.warn("Schedule job {} for division {} failed: {}", job.id, job.divisionId, ex.getMessage());
+            job.finish(Status.RUNNING, Status.FAILED, ex.getMessage());
+        } finally {
+            runningJobs.release();
+        }
+    }
+
+    /**
+     * Waits for a free run slot; returns false without holding one when the
+     * job was cancelled while waiting.
+     */
+    private boolean awaitTurn(Job job) {
+        try {
+            while (!runningJobs.tryAcquire(QUEUE_POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (job.cancelRequested) {
+                    job.finish(Status.QUEUED, Status.CANCELLED, null);
+                    return false;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.finish(Status.QUEUED, Status.CANCELLED, null);
+            return false;
+        }
+        if (job.cancelRequested) {
+            runningJobs.release();
+            job.finish(Status.QUEUED, Status.CANCELLED, null);
+            return false;
+        }
+        return true;
+    }
+
+    private static final class Job implements ScheduleProgress {
+        private final String id;
+        private final ScheduleJobRequest.Type type;
+        private final Long divisionId;
+        private final boolean doubleRoundRobin;
+        private final Integer playoffTeams;
+        private final boolean thirdPlace;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile Status status = Status.QUEUED;
+        private volatile boolean cancelRequested;
+        private volatile String phase;
+        private volatile int completed;
+        private volatile int total;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile Integer matchesCreated;
+        private volatile List<ScheduleResponse.UnscheduledMatch> unscheduled;
+        private volatile String error;
+
+        private Job(String id, ScheduleJobRequest request) {
+            this.id = id;
+            this.type = request.getType();
+            this.divisionId = request.getDivisionId();
+            this.doubleRoundRobin = request.isDoubleRoundRobin();
+            this.playoffTeams = request.getPlayoffTeams();
+            this.thirdPlace = request.isThirdPlace();
+        }
+
+        @Override
+        public void update(String phase, int completed, int total) {
+            if (cancelRequested) {
+                throw new CancellationException("Schedule job " + id + " was cancelled");
+            }
+            this.phase = phase;
+            this.completed = completed;
+            this.total = total;
+        }
+
+        private synchronized boolean start() {
+            if (status != Status.QUEUED) {
+                return false;
+            }
+            status = Status.RUNNING;
+            startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        private synchronized void succeed(int matchesCreated, List<ScheduleResponse.UnscheduledMatch> unscheduled) {
+            if (status == Status.RUNNING) {
+                this.matchesCreated = matchesCreated;
+                this.unscheduled = unscheduled;
+                finish(Status.RUNNING, Status.SUCCEEDED, null);
+            }
+        }
+
+        /**
+         * Moves the job from the given state to a final one; does nothing
+         * when it is in another state by now.
+         */
+        private synchronized void finish(Status from, Status to, String error) {
+            if (status == from) {
+                this.error = error;
+                this.finishedAt = LocalDateTime.now();
+                this.status = to;
+            }
+        }
+
+        private synchronized ScheduleJobResponse toResponse() {
+            return new ScheduleJobResponse(id, type, divisionId, status, phase, completed, total,
+                cancelRequested, createdAt, startedAt, finishedAt, matchesCreated, unscheduled, error);
+        }
+    }
+}
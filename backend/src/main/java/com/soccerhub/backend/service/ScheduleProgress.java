@@ -0,0 +1,14 @@
+package com.soccerhub.backend.service;
+
+/**
+ * Receives progress from schedule and playoff generation. Implementations
+ * may throw CancellationException to abort the generation, which rolls back
+ * its transaction.
+ */
+@FunctionalInterface
+public interface ScheduleProgress {
+
+    ScheduleProgress NONE = (phase, completed, total) -> { };
+
+    void update(String phase, int completed, int total);
+}
@@ -0,0 +1,316 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.exception.BadRequestException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary layout of tournament snapshots, all numbers big-endian:
+ * <pre>
+ * int magic "SHSN", short version, long created (epoch ms), int section count
+ * per section:  UTF name, int rows, int columns, long length of the columns
+ * per column:   UTF name, byte type, long length of the values
+ *   INT64/INT32: null bitmap (one bit per row, set for null), then one fixed-width value per row
+ *   TEXT:        per row an int byte length (-1 for null) and the UTF-8 bytes
+ * long CRC32 of everything before it
+ * </pre>
+ * Sections and columns are looked up by name, so readers skip what they do
+ * not know and treat missing columns as null. Numeric columns are read in
+ * place from the buffer, which the restore maps from a file.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x5348534E;
+    static final short VERSION = 1;
+
+    private static final byte INT64 = 1;
+    private static final byte INT32 = 2;
+    private static final byte TEXT = 3;
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * Writes sections to a stream and appends the checksum on {@link #finish()}.
+     */
+    static final class Writer {
+
+        private final BufferedOutputStream buffered;
+        private final CRC32 checksum = new CRC32();
+        private final DataOutputStream out;
+
+        Writer(OutputStream target, int sections) throws IOException {
+            this.buffered = new BufferedOutputStream(target, 64 * 1024);
+            this.out = new DataOutputStream(new CheckedOutputStream(buffered, checksum));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(sections);
+        }
+
+        void write(Section<?> section) throws IOException {
+            out.writeUTF(section.name);
+            out.writeInt(section.rows.size());
+            out.writeInt(section.columns);
+            out.writeLong(section.body.size());
+            section.body.writeTo(out);
+        }
+
+        void finish() throws IOException {
+            out.flush();
+            new DataOutputStream(buffered).writeLong(checksum.getValue());
+            buffered.flush();
+        }
+    }
+
+    /**
+     * One section being written, built column by column from its rows.
+     */
+    static final class Section<T> {
+
+        private final String name;
+        private final List<T> rows;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(body);
+        private int columns;
+
+        Section(String name, List<T> rows) {
+            this.name = name;
+            this.rows = rows;
+        }
+
+        Section<T> int64(String column, Function<T, Long> value) {
+            ByteArrayOutputStream values = new ByteArrayOutputStream(bitmapLength(rows.size()) + rows.size() * 8);
+            DataOutputStream data = new DataOutputStream(values);
+            try {
+                byte[] nulls = new byte[bitmapLength(rows.size())];
+                long[] numbers = new long[rows.size()];
+                for (int i = 0; i < rows.size(); i++) {
+                    Long number = value.apply(rows.get(i));
+                    if (number == null) {
+                        nulls[i >> 3] |= (byte) (1 << (i & 7));
+                    } else {
+                        numbers[i] = number;
+                    }
+                }
+                data.write(nulls);
+                for (long number : numbers) {
+                    data.writeLong(number);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return column(column, INT64, values);
+        }
+
+        Section<T> int32(String column, Function<T, Integer> value) {
+            ByteArrayOutputStream values = new ByteArrayOutputStream(bitmapLength(rows.size()) + rows.size() * 4);
+            DataOutputStream data = new DataOutputStream(values);
+            try {
+                byte[] nulls = new byte[bitmapLength(rows.size())];
+                int[] numbers = new int[rows.size()];
+                for (int i = 0; i < rows.size(); i++) {
+                    Integer number = value.apply(rows.get(i));
+                    if (number == null) {
+                        nulls[i >> 3] |= (byte) (1 << (i & 7));
+                    } else {
+                        numbers[i] = number;
+                    }
+                }
+                data.write(nulls);
+                for (int number : numbers) {
+                    data.writeInt(number);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return column(column, INT32, values);
+        }
+
+        Section<T> text(String column, Function<T, String> value) {
+            ByteArrayOutputStream values = new ByteArrayOutputStream(rows.size() * 16);
+            DataOutputStream data = new DataOutputStream(values);
+            try {
+                for (T row : rows) {
+                    String text = value.apply(row);
+                    if (text == null) {
+                        data.writeInt(-1);
+                    } else {
+                        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                        data.writeInt(bytes.length);
+                        data.write(bytes);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return column(column, TEXT, values);
+        }
+
+        private Section<T> column(String column, byte type, ByteArrayOutputStream values) {
+            try {
+                out.writeUTF(column);
+                out.writeByte(type);
+                out.writeLong(values.size());
+                values.writeTo(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            columns++;
+            return this;
+        }
+    }
+
+    /**
+     * Checks the header and checksum of a snapshot and indexes its sections.
+     * Malformed input is rejected with a BadRequestException.
+     */
+    static Map<String, SectionReader> read(ByteBuffer snapshot) {
+        try {
+            if (snapshot.remaining() < 26) {
+                throw new BadRequestException("Not a tournament snapshot: the input is too short");
+            }
+            ByteBuffer content = snapshot.slice(0, snapshot.limit() - 8);
+            CRC32 checksum = new CRC32();
+            checksum.update(content.duplicate());
+            if (checksum.getValue() != snapshot.getLong(snapshot.limit() - 8)) {
+                throw new BadRequestException("Snapshot checksum mismatch: the file is corrupt or incomplete");
+            }
+            if (content.getInt() != MAGIC) {
+                throw new BadRequestException("Not a tournament snapshot");
+            }
+            short version = content.getShort();
+            if (version > VERSION) {
+                throw new BadRequestException("Snapshot version " + version + " is newer than supported ("
+                    + VERSION + ")");
+            }
+            content.getLong();
+            int sectionCount = content.getInt();
+            Map<String, SectionReader> sections = new LinkedHashMap<>();
+            for (int i = 0; i < sectionCount; i++) {
+                String name = readUtf(content);
+                int rows = content.getInt();
+                int columnCount = content.getInt();
+                ByteBuffer body = slice(content, content.getLong());
+                Map<String, Column> columns = new HashMap<>();
+                for (int c = 0; c < columnCount; c++) {
+                    String column = readUtf(body);
+                    byte type = body.get();
+                    columns.put(column, new Column(type, slice(body, body.getLong())));
+                }
+                sections.put(name, new SectionReader(name, rows, columns));
+            }
+            return sections;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            throw new BadRequestException("Snapshot is truncated or malformed");
+        }
+    }
+
+    /**
+     * Columns of one section, backed by the snapshot buffer.
+     */
+    static final class SectionReader {
+
+        private final String name;
+        private final int rows;
+        private final Map<String, Column> columns;
+
+        private SectionReader(String name, int rows, Map<String, Column> columns) {
+            this.name = name;
+            this.rows = rows;
+            this.columns = columns;
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        Long int64(String column, int row) {
+            Column values = column(column, INT64);
+            if (values == null || isNull(values.data, row)) {
+                return null;
+            }
+            return values.data.getLong(bitmapLength(rows) + row * 8);
+        }
+
+        Integer int32(String column, int row) {
+            Column values = column(column, INT32);
+            if (values == null || isNull(values.data, row)) {
+                return null;
+            }
+            return values.data.getInt(bitmapLength(rows) + row * 4);
+        }
+
+        /**
+         * Decodes a whole text column; missing columns give all nulls.
+         */
+        String[] text(String column) {
+            String[] texts = new String[rows];
+            Column values = column(column, TEXT);
+            if (values == null) {
+                return texts;
+            }
+            ByteBuffer data = values.data.duplicate();
+            for (int i = 0; i < rows; i++) {
+                int length = data.getInt();
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    data.get(bytes);
+                    texts[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            return texts;
+        }
+
+        private Column column(String column, byte type) {
+            Column values = columns.get(column);
+            if (values != null && values.type != type) {
+                throw new BadRequestException("Snapshot column " + name + "." + column + " has an unexpected type");
+            }
+            return values;
+        }
+
+        private static boolean isNull(ByteBuffer data, int row) {
+            return (data.get(row >> 3) & (1 << (row & 7))) != 0;
+        }
+    }
+
+    private record Column(byte type, ByteBuffer data) {
+    }
+
+    private static int bitmapLength(int rows) {
+        return (rows + 7) >> 3;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, long length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer slice = buffer.slice(buffer.position(), (int) length);
+        buffer.position(buffer.position() + (int) length);
+        return slice;
+    }
+
+    // Counterpart of DataOutputStream.writeUTF for the ASCII section and column names
+    private static String readUtf(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
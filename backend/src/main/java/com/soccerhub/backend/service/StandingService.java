@@ -1,19 +1,467 @@
 package com.soccerhub.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soccerhub.backend.dto.StandingDelta;
+import com.soccerhub.backend.dto.StandingsPayload;
 import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.repository.DivisionRepository;
 import com.soccerhub.backend.repository.StandingRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
+/**
+ * Serves standings from per-division in-memory tables. Tables are loaded from
+ * the standings table on first use and then kept current by the deltas that
+ * MatchService records; the database rows are updated write-behind. Each
+ * table also caches its tiebreak ranking and JSON form per version, so
+ * repeated reads of an unchanged division cost neither a query nor a
+ * serialization. Only divisions that exist and have standings are cached;
+ * reads of any other division id are answered from the database each time.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class StandingService {
-    
+
+    private static final int LOCK_STRIPES = 64;
+
     private final StandingRepository standingRepository;
-    
+    private final DivisionRepository divisionRepository;
+    private final StandingsRanker standingsRanker;
+    private final TransactionTemplate flushTransaction;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathMetrics metrics;
+
+    private final Map<Long, DivisionStandings> tables = new ConcurrentHashMap<>();
+    // Distinguishes versions handed out before a restart from the ones after it
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Serializes loading a division's table with the reload after a batch of
+    // stored deltas commits, so no load can read the rows from before the batch
+    private final ReentrantLock[] loadLocks = stripes(ReentrantLock[]::new, ReentrantLock::new);
+    // Held shared by a transaction recording results from its first standings
+    // change until it completes, and exclusively while a rebuild checks the division
+    private final ReentrantReadWriteLock[] resultLocks = stripes(ReentrantReadWriteLock[]::new, ReentrantReadWriteLock::new);
+
+    public StandingService(StandingRepository standingRepository,
+                           DivisionRepository divisionRepository,
+                           StandingsRanker standingsRanker,
+                           PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           HotPathMetrics metrics) {
+        this.standingRepository = standingRepository;
+        this.divisionRepository = divisionRepository;
+        this.standingsRanker = standingsRanker;
+        // Flushes also run from after-commit callbacks, where joining the finished transaction would not commit
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the division's standings ordered by points and then by the
+     * division's tiebreakers. The list is shared and must not be modified.
+     */
     public List<Standing> getStandingsByDivisionId(Long divisionId) {
-        return standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId);
+        return ranked(table(divisionId)).standings();
+    }
+
+    public String getStandingsETag(Long divisionId) {
+        return etag(divisionId, table(divisionId).version());
+    }
+
+    public StandingsPayload getStandingsPayload(Long divisionId) {
+        DivisionStandings table = table(divisionId);
+        long version = table.version();
+        byte[] body = table.payload(version);
+        if (body == null) {
+            DivisionStandings.Snapshot snapshot = ranked(table);
+            version = snapshot.version();
+            try {
+                body = objectMapper.writeValueAsBytes(snapshot.standings());
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize standings for division " + divisionId, ex);
+            }
+            table.cachePayload(version, body);
+        }
+        return new StandingsPayload(etag(divisionId, version), body);
+    }
+
+    public void recordResult(Long divisionId, Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        applyDeltas(divisionId, StandingDelta.forResult(homeTeamId, awayTeamId, homeScore, awayScore), "record");
+    }
+
+    public void reverseResult(Long divisionId, Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        applyDeltas(divisionId, StandingDelta.reversing(homeTeamId, awayTeamId, homeScore, awayScore), "reverse");
+    }
+
+    /**
+     * Applies the deltas to the division's table once the surrounding
+     * transaction commits (immediately when there is none), so a rolled back
+     * result never shows up in the standings. The database rows follow on the
+     * next write-behind flush.
+     */
+    private void applyDeltas(Long divisionId, Collection<StandingDelta> deltas, String operation) {
+        recordResults(divisionId, () -> () -> {
+            Timer.Sample sample = metrics.start();
+            cachedTable(divisionId).apply(deltas, true);
+            metrics.stop(sample, "soccerhub.standings.apply", null, "division", divisionId, "operation", operation);
+            eventPublisher.publishEvent(new StandingsChangedEvent(divisionId));
+        });
+    }
+
+    /**
+     * Writes the deltas to the standings table inside the current transaction
+     * and applies them to the in-memory table once it commits. Used where the
+     * standings must commit atomically with the matches that caused them.
+     * A table that was not loaded before the write, or was reloaded since,
+     * may already hold the written rows; it is reloaded instead of applying
+     * the deltas a second time.
+     */
+    public void writeDeltas(Long divisionId, Collection<StandingDelta> deltas) {
+        List<StandingDelta> coalesced = deltas.stream()
+            .filter(delta -> !delta.isZero())
+            .toList();
+        if (coalesced.isEmpty()) {
+            return;
+        }
+        recordResults(divisionId, () -> {
+            DivisionStandings loaded = tables.get(divisionId);
+            long generation = loaded != null ? loaded.generation() : -1;
+            List<Long> created = standingRepository.applyDeltas(divisionId, coalesced);
+            return () -> {
+                Timer.Sample sample = metrics.start();
+                if (loaded != null && tables.get(divisionId) == loaded && loaded.applyStored(coalesced, generation)) {
+                    if (!created.isEmpty()) {
+                        loaded.assignIds(loadRows(divisionId, created));
+                    }
+                } else {
+                    reloadTable(divisionId);
+                }
+                metrics.stop(sample, "soccerhub.standings.apply", null, "division", divisionId, "operation", "batch");
+                eventPublisher.publishEvent(new StandingsChangedEvent(divisionId));
+            };
+        });
+    }
+
+    /**
+     * Drops the cached ranking of a division once the surrounding transaction
+     * commits, e.g. after its tiebreakers changed.
+     */
+    public void rankingChanged(Long divisionId) {
+        afterCommit(() -> {
+            DivisionStandings table = tables.get(divisionId);
+            if (table != null) {
+                table.touch();
+                eventPublisher.publishEvent(new StandingsChangedEvent(divisionId));
+            }
+        });
+    }
+
+    /**
+     * Drops the table of a deleted division once the surrounding transaction
+     * commits.
+     */
+    public void divisionDeleted(Long divisionId) {
+        afterCommit(() -> tables.remove(divisionId));
+    }
+
+    /**
+     * Runs the action while no result of the division is being recorded, for
+     * rewriting its stored rows from a recompute. Transactions that already
+     * changed the division's standings complete first, later ones wait until
+     * the action returns, and unflushed deltas are written before it starts.
+     * Must not be called from a transaction that records results.
+     */
+    public <T> T withResultsPaused(Long divisionId, Supplier<T> action) {
+        Lock resultLock = resultLock(divisionId).writeLock();
+        resultLock.lock();
+        try {
+            flushLock.lock();
+            try {
+                DivisionStandings table = tables.get(divisionId);
+                if (table != null) {
+                    flush(table);
+                }
+            } finally {
+                flushLock.unlock();
+            }
+            return action.get();
+        } finally {
+            resultLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.standings.flush-interval-ms:1000}")
+    public void flushPendingWrites() {
+        flushLock.lock();
+        try {
+            tables.values().forEach(this::flush);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Compares every loaded table with the stored rows. Drifted tables are
+     * logged and reloaded from the database; the number of drifted divisions
+     * is returned.
+     */
+    @Scheduled(fixedDelayString = "${app.standings.consistency-check-interval-ms:300000}",
+               initialDelayString = "${app.standings.consistency-check-interval-ms:300000}")
+    public int checkConsistency() {
+        int drifted = 0;
+        flushLock.lock();
+        try {
+            for (DivisionStandings table : tables.values()) {
+                flush(table);
+                table.lock();
+                try {
+                    List<Standing> stored = standingRepository
+                        .findByDivisionIdOrderByPointsDescGoalDifferenceDesc(table.getDivisionId());
+                    List<String> mismatches = table.diff(stored);
+                    if (!mismatches.isEmpty()) {
+                        drifted++;
+                        log.warn("Standings for division {} drifted from the database, reloading: {}",
+                            table.getDivisionId(), mismatches);
+                        table.reset(stored);
+                        eventPublisher.publishEvent(new StandingsChangedEvent(table.getDivisionId()));
+                    }
+                } finally {
+                    table.unlock();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        return drifted;
+    }
+
+    /**
+     * Reloads one division's table from the database after its rows were
+     * rewritten outside the delta path. Unflushed deltas are written first.
+     */
+    public void reload(Long divisionId) {
+        if (reloadTable(divisionId)) {
+            eventPublisher.publishEvent(new StandingsChangedEvent(divisionId));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingWrites();
+    }
+
+    private String etag(Long divisionId, long version) {
+        return "\"" + epoch + "-" + divisionId + "-" + version + "\"";
+    }
+
+    private DivisionStandings.Snapshot ranked(DivisionStandings table) {
+        long version = table.version();
+        List<Standing> ranking = table.ranking(version);
+        if (ranking != null) {
+            return new DivisionStandings.Snapshot(version, ranking);
+        }
+        DivisionStandings.Snapshot snapshot = table.versionedSnapshot();
+        ranking = standingsRanker.rank(table.getDivisionId(), snapshot.standings());
+        table.cacheRanking(snapshot.version(), ranking);
+        return new DivisionStandings.Snapshot(snapshot.version(), ranking);
+    }
+
+    /**
+     * Runs the work under the division's result lock and the action it
+     * returns once the surrounding transaction commits (immediately when
+     * there is none). The lock is held shared until the transaction
+     * completes, so a rebuild never sees a result that is committed but not
+     * yet applied.
+     */
+    private void recordResults(Long divisionId, Supplier<Runnable> work) {
+        Lock resultLock = resultLock(divisionId).readLock();
+        resultLock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                work.get().run();
+            } finally {
+                resultLock.unlock();
+            }
+            return;
+        }
+        Runnable action;
+        try {
+            action = work.get();
+        } catch (RuntimeException | Error ex) {
+            resultLock.unlock();
+            throw ex;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                resultLock.unlock();
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Table for reads. A division without standings, or one that does not
+     * exist, gets a table that is not cached, so arbitrary ids passed to the
+     * public endpoints leave no entry behind.
+     */
+    private DivisionStandings table(Long divisionId) {
+        DivisionStandings table = tables.get(divisionId);
+        if (table != null) {
+            return table;
+        }
+        ReentrantLock loadLock = loadLock(divisionId);
+        loadLock.lock();
+        try {
+            table = tables.get(divisionId);
+            if (table != null) {
+                return table;
+            }
+            List<Standing> rows = standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId);
+            if (rows.isEmpty() || !divisionRepository.existsById(divisionId)) {
+                return new DivisionStandings(divisionId, rows, 0);
+            }
+            table = new DivisionStandings(divisionId, rows, 1);
+            tables.put(divisionId, table);
+            return table;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Table for applying results, cached even while it is empty; the results
+     * come from matches of the division, so it exists.
+     */
+    private DivisionStandings cachedTable(Long divisionId) {
+        DivisionStandings table = tables.get(divisionId);
+        if (table != null) {
+            return table;
+        }
+        ReentrantLock loadLock = loadLock(divisionId);
+        loadLock.lock();
+        try {
+            return tables.computeIfAbsent(divisionId, id -> new DivisionStandings(id,
+                standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(id), 1));
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces a loaded table with the stored rows, flushing its pending
+     * deltas first. Holds the division's load lock, so a load that started
+     * before the caller's rows were committed finishes first and is then
+     * reloaded. Returns false if the table is not loaded.
+     */
+    private boolean reloadTable(Long divisionId) {
+        ReentrantLock loadLock = loadLock(divisionId);
+        loadLock.lock();
+        flushLock.lock();
+        try {
+            DivisionStandings table = tables.get(divisionId);
+            if (table == null) {
+                return false;
+            }
+            flush(table);
+            table.lock();
+            try {
+                // A transaction of its own, so no entity cached by the caller's finished transaction is read back
+                table.reset(flushTransaction.execute(status ->
+                    standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId)));
+            } finally {
+                table.unlock();
+            }
+            return true;
+        } finally {
+            flushLock.unlock();
+            loadLock.unlock();
+        }
+    }
+
+    private ReentrantLock loadLock(Long divisionId) {
+        return loadLocks[Math.floorMod(divisionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private ReentrantReadWriteLock resultLock(Long divisionId) {
+        return resultLocks[Math.floorMod(divisionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static <L> L[] stripes(IntFunction<L[]> array, Supplier<L> lock) {
+        L[] locks = array.apply(LOCK_STRIPES);
+        Arrays.setAll(locks, i -> lock.get());
+        return locks;
+    }
+
+    private void flush(DivisionStandings table) {
+        Map<Long, StandingDelta> drained = table.drainPending();
+        drained.values().removeIf(StandingDelta::isZero);
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> created = flushTransaction.execute(status ->
+                standingRepository.applyDeltas(table.getDivisionId(), drained.values()));
+            if (!created.isEmpty()) {
+                table.assignIds(loadRows(table.getDivisionId(), created));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not flush standings for division {}, will retry: {}",
+                table.getDivisionId(), ex.getMessage());
+            table.requeue(drained);
+        }
+    }
+
+    private Map<Long, Standing> loadRows(Long divisionId, List<Long> teamIds) {
+        Map<Long, Standing> rows = new HashMap<>();
+        for (Long teamId : teamIds) {
+            standingRepository.findByDivisionIdAndTeamId(divisionId, teamId)
+                .ifPresent(standing -> rows.put(teamId, standing));
+        }
+        return rows;
     }
 }
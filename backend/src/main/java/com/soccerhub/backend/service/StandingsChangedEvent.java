@@ -0,0 +1,7 @@
+package com.soccerhub.backend.service;
+
+/**
+ * Published by StandingService after a division's in-memory table changed.
+ */
+public record StandingsChangedEvent(Long divisionId) {
+}
@@ -0,0 +1,267 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchScore;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Orders a division's standings by points and then by the division's
+ * tiebreakers, with team id as the final, deterministic criterion.
+ *
+ * Head-to-head and away-goal rules need the division's results. They are read
+ * in a single pass, and only when some teams are actually level on points.
+ * Only games between teams on equal points can matter for head-to-head, so
+ * they are kept in one small matrix per group of teams level on points,
+ * allocated when the first such game is seen. Head-to-head values are computed
+ * within each group of teams still tied when the rule is reached, so a
+ * three-way tie is decided by the mini-league of those three.
+ */
+@Component
+class StandingsRanker {
+
+    private final DivisionRepository divisionRepository;
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate readTransaction;
+
+    StandingsRanker(DivisionRepository divisionRepository,
+                    MatchRepository matchRepository,
+                    PlatformTransactionManager transactionManager) {
+        this.divisionRepository = divisionRepository;
+        this.matchRepository = matchRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Ranks the given rows, which must already be sorted by points
+     * descending. Returns a new list; the input is not modified.
+     */
+    List<Standing> rank(Long divisionId, List<Standing> table) {
+        int n = table.size();
+        if (n < 2) {
+            return List.copyOf(table);
+        }
+        List<Division.Tiebreaker> rules = divisionRepository.findById(divisionId)
+            .map(division -> Division.Tiebreaker.parse(division.getTiebreakers()))
+            .orElse(Division.Tiebreaker.DEFAULT_ORDER);
+
+        Context context = new Context(table, rules);
+        if (hasPointsTie(table) && rules.stream().anyMatch(Division.Tiebreaker::needsMatches)) {
+            readTransaction.executeWithoutResult(status -> {
+                try (Stream<MatchScore> scores = matchRepository.streamLeagueScores(divisionId, Match.Status.COMPLETED)) {
+                    scores.forEach(context::record);
+                }
+            });
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        // Input is sorted by points, so only the runs of equal points need tiebreaking
+        int from = 0;
+        for (int i = 1; i <= n; i++) {
+            if (i == n || !table.get(i).getPoints().equals(table.get(from).getPoints())) {
+                context.rankGroup(order, from, i, 0);
+                from = i;
+            }
+        }
+
+        List<Standing> ranked = new ArrayList<>(n);
+        for (int index : order) {
+            ranked.add(table.get(index));
+        }
+        return List.copyOf(ranked);
+    }
+
+    private static boolean hasPointsTie(List<Standing> table) {
+        for (int i = 1; i < table.size(); i++) {
+            if (table.get(i).getPoints().equals(table.get(i - 1).getPoints())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Context {
+        private final List<Standing> table;
+        private final List<Division.Tiebreaker> rules;
+        private final Map<Long, Integer> indexByTeam;
+        // Group of teams level on points that each team belongs to, and its place in that group
+        private final int[] groupOf;
+        private final int[] slot;
+        private final int[] groupSizes;
+        // Per group, null until needed: [i * size + j] = what slot i earned or scored against slot j
+        private final int[][] headToHeadPoints;
+        private final int[][] headToHeadGoals;
+        private final int[] awayGoals;
+
+        private Context(List<Standing> table, List<Division.Tiebreaker> rules) {
+            this.table = table;
+            this.rules = rules;
+            int n = table.size();
+            this.indexByTeam = new HashMap<>(n * 2);
+            this.groupOf = new int[n];
+            this.slot = new int[n];
+            int groups = 0;
+            for (int i = 0; i < n; i++) {
+                indexByTeam.put(table.get(i).getTeamId(), i);
+                if (i > 0 && table.get(i).getPoints().equals(table.get(i - 1).getPoints())) {
+                    groupOf[i] = groupOf[i - 1];
+                    slot[i] = slot[i - 1] + 1;
+                } else {
+                    groupOf[i] = groups++;
+                }
+            }
+            this.groupSizes = new int[groups];
+            for (int i = 0; i < n; i++) {
+                groupSizes[groupOf[i]]++;
+            }
+            this.headToHeadPoints = new int[groups][];
+            this.headToHeadGoals = new int[groups][];
+            this.awayGoals = new int[n];
+        }
+
+        private void record(MatchScore score) {
+            Integer home = indexByTeam.get(score.homeTeamId());
+            Integer away = indexByTeam.get(score.awayTeamId());
+            if (home == null || away == null || score.homeScore() == null || score.awayScore() == null) {
+                return;
+            }
+            int homeGoals = score.homeScore();
+            int visitorGoals = score.awayScore();
+            awayGoals[away] += visitorGoals;
+            int group = groupOf[home];
+            if (group != groupOf[away]) {
+                return;
+            }
+            int size = groupSizes[group];
+            if (headToHeadPoints[group] == null) {
+                headToHeadPoints[group] = new int[size * size];
+                headToHeadGoals[group] = new int[size * size];
+            }
+            int[] points = headToHeadPoints[group];
+            int[] goals = headToHeadGoals[group];
+            int homeToAway = slot[home] * size + slot[away];
+            int awayToHome = slot[away] * size + slot[home];
+            goals[homeToAway] += homeGoals;
+            goals[awayToHome] += visitorGoals;
+            if (homeGoals > visitorGoals) {
+                points[homeToAway] += 3;
+            } else if (homeGoals < visitorGoals) {
+                points[awayToHome] += 3;
+            } else {
+                points[homeToAway] += 1;
+                points[awayToHome] += 1;
+            }
+        }
+
+        /**
+         * Orders order[from, to) by the rule at ruleIndex and recurses into
+         * every run that is still level on it.
+         */
+        private void rankGroup(int[] order, int from, int to, int ruleIndex) {
+            if (to - from < 2) {
+                return;
+            }
+            if (ruleIndex == rules.size()) {
+                sortByTeamId(order, from, to);
+                return;
+            }
+            Division.Tiebreaker rule = rules.get(ruleIndex);
+            int[] keys = new int[to - from];
+            for (int k = from; k < to; k++) {
+                keys[k - from] = key(rule, order[k], order, from, to);
+            }
+            // Tied groups are small, so an insertion sort is enough
+            for (int k = 1; k < keys.length; k++) {
+                int key = keys[k];
+                int team = order[from + k];
+                int m = k - 1;
+                while (m >= 0 && keys[m] < key) {
+                    keys[m + 1] = keys[m];
+                    order[from + m + 1] = order[from + m];
+                    m--;
+                }
+                keys[m + 1] = key;
+                order[from + m + 1] = team;
+            }
+            int start = 0;
+            for (int k = 1; k <= keys.length; k++) {
+                if (k == keys.length || keys[k] != keys[start]) {
+                    rankGroup(order, from + start, from + k, ruleIndex + 1);
+                    start = k;
+                }
+            }
+        }
+
+        private int key(Division.Tiebreaker rule, int team, int[] order, int from, int to) {
+            Standing standing = table.get(team);
+            switch (rule) {
+                case GOAL_DIFFERENCE:
+                    return standing.getGoalsFor() - standing.getGoalsAgainst();
+                case GOALS_FOR:
+                    return standing.getGoalsFor();
+                case WINS:
+                    return standing.getWon();
+                case AWAY_GOALS:
+                    return awayGoals[team];
+                default:
+                    break;
+            }
+            // Teams still tied here are all in the same points group
+            int group = groupOf[team];
+            if (headToHeadPoints[group] == null) {
+                return 0;
+            }
+            int[] points = headToHeadPoints[group];
+            int[] goals = headToHeadGoals[group];
+            int size = groupSizes[group];
+            int total = 0;
+            for (int k = from; k < to; k++) {
+                int opponent = order[k];
+                if (opponent == team) {
+                    continue;
+                }
+                int forward = slot[team] * size + slot[opponent];
+                switch (rule) {
+                    case HEAD_TO_HEAD_POINTS:
+                        total += points[forward];
+                        break;
+                    case HEAD_TO_HEAD_GOAL_DIFFERENCE:
+                        total += goals[forward] - goals[slot[opponent] * size + slot[team]];
+                        break;
+                    default:
+                        total += goals[forward];
+                        break;
+                }
+            }
+            return total;
+        }
+
+        private void sortByTeamId(int[] order, int from, int to) {
+            for (int k = from + 1; k < to; k++) {
+                int team = order[k];
+                long teamId = table.get(team).getTeamId();
+                int m = k - 1;
+                while (m >= from && table.get(order[m]).getTeamId() > teamId) {
+                    order[m + 1] = order[m];
+                    m--;
+                }
+                order[m + 1] = team;
+            }
+        }
+    }
+}
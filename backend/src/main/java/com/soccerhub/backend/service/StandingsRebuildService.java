@@ -0,0 +1,313 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchScore;
+import com.soccerhub.backend.dto.StandingsRebuildReport;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.StandingRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Recomputes standings from scratch and compares them with the stored rows.
+ * Every division is recomputed by its own fork/join task that streams the
+ * division's completed league matches into primitive per-team counters, so
+ * memory is bounded by the number of teams per division and the number of
+ * divisions in flight, not by the number of matches.
+ */
+@Slf4j
+@Service
+public class StandingsRebuildService {
+
+    private static final int MAX_REPORTED_DRIFTS = 1_000;
+
+    private final DivisionRepository divisionRepository;
+    private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+    private final StandingRepository standingRepository;
+    private final StandingService standingService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int parallelism;
+
+    public StandingsRebuildService(DivisionRepository divisionRepository,
+                                   TeamRepository teamRepository,
+                                   MatchRepository matchRepository,
+                                   StandingRepository standingRepository,
+                                   StandingService standingService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.standings.rebuild-parallelism:4}") int parallelism) {
+        this.divisionRepository = divisionRepository;
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.standingRepository = standingRepository;
+        this.standingService = standingService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Rebuilds every division. With {@code fix} the stored rows are rewritten
+     * to the recomputed values (and orphaned rows removed); otherwise the
+     * drift is only reported. Each division is recomputed, compared and
+     * fixed while its results are paused, after its pending deltas were
+     * flushed, so results recorded meanwhile are neither reported as drift
+     * nor lost.
+     */
+    public StandingsRebuildReport rebuild(boolean fix) {
+        long started = System.nanoTime();
+        Set<Long> divisionIds = new TreeSet<>();
+        divisionRepository.findAll().stream().map(Division::getId).forEach(divisionIds::add);
+        Set<Long> existingDivisions = new HashSet<>(divisionIds);
+        divisionIds.addAll(standingRepository.findDistinctDivisionIds());
+
+        LongAdder matchesScanned = new LongAdder();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        List<StandingsRebuildReport.TeamDrift> drifts = new ArrayList<>();
+        int divisionsDrifted = 0;
+        try {
+            List<ForkJoinTask<List<StandingsRebuildReport.TeamDrift>>> tasks = divisionIds.stream()
+                .map(divisionId -> pool.submit(() -> standingService.withResultsPaused(divisionId, () ->
+                    rebuildDivision(divisionId, existingDivisions.contains(divisionId), fix, matchesScanned))))
+                .toList();
+            for (ForkJoinTask<List<StandingsRebuildReport.TeamDrift>> task : tasks) {
+                List<StandingsRebuildReport.TeamDrift> divisionDrifts = task.join();
+                if (!divisionDrifts.isEmpty()) {
+                    divisionsDrifted++;
+                    int room = MAX_REPORTED_DRIFTS - drifts.size();
+                    drifts.addAll(divisionDrifts.subList(0, Math.max(0, Math.min(room, divisionDrifts.size()))));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Standings rebuild checked {} divisions ({} drifted, {} matches) in {} ms, fix={}",
+            divisionIds.size(), divisionsDrifted, matchesScanned.sum(), elapsedMillis, fix);
+        return new StandingsRebuildReport(fix, divisionIds.size(), divisionsDrifted,
+            matchesScanned.sum(), elapsedMillis, drifts);
+    }
+
+    private List<StandingsRebuildReport.TeamDrift> rebuildDivision(Long divisionId,
+                                                                   boolean divisionExists,
+                                                                   boolean fix,
+                                                                   LongAdder matchesScanned) {
+        TableAccumulator expected = new TableAccumulator();
+        if (divisionExists) {
+            readTransaction.executeWithoutResult(status -> {
+                try (Stream<MatchScore> scores = matchRepository.streamLeagueScores(divisionId, Match.Status.COMPLETED)) {
+                    scores.forEach(score -> {
+                        expected.add(score);
+                        matchesScanned.increment();
+                    });
+                }
+            });
+        }
+
+        Set<Long> currentTeams = new HashSet<>();
+        if (divisionExists) {
+            teamRepository.findByDivisionId(divisionId).stream().map(Team::getId).forEach(currentTeams::add);
+        }
+        List<Standing> stored = standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId);
+
+        List<StandingsRebuildReport.TeamDrift> drifts = new ArrayList<>();
+        List<Standing> toSave = new ArrayList<>();
+        List<Standing> toDelete = new ArrayList<>();
+        Set<Long> storedTeams = new HashSet<>();
+        for (Standing standing : stored) {
+            storedTeams.add(standing.getTeamId());
+            if (!currentTeams.contains(standing.getTeamId())) {
+                drifts.add(drift(divisionId, standing.getTeamId(), StandingsRebuildReport.Kind.ORPHANED,
+                    null, describe(standing)));
+                toDelete.add(standing);
+                continue;
+            }
+            int slot = expected.slotOf(standing.getTeamId());
+            if (!expected.matches(slot, standing)) {
+                drifts.add(drift(divisionId, standing.getTeamId(), StandingsRebuildReport.Kind.MISMATCH,
+                    expected.describe(slot), describe(standing)));
+                expected.copyInto(slot, standing);
+                toSave.add(standing);
+            }
+        }
+        for (int slot = 0; slot < expected.size(); slot++) {
+            long teamId = expected.teamIds[slot];
+            if (currentTeams.contains(teamId) && !storedTeams.contains(teamId)) {
+                drifts.add(drift(divisionId, teamId, StandingsRebuildReport.Kind.MISSING,
+                    expected.describe(slot), null));
+                Standing standing = new Standing();
+                standing.setDivisionId(divisionId);
+                standing.setTeamId(teamId);
+                expected.copyInto(slot, standing);
+                toSave.add(standing);
+            }
+        }
+
+        if (fix && !drifts.isEmpty()) {
+            writeTransaction.executeWithoutResult(status -> {
+                standingRepository.deleteAll(toDelete);
+                standingRepository.saveAll(toSave);
+            });
+            standingService.reload(divisionId);
+        }
+        return drifts;
+    }
+
+    private static StandingsRebuildReport.TeamDrift drift(Long divisionId, Long teamId,
+                                                          StandingsRebuildReport.Kind kind,
+                                                          String expected, String stored) {
+        return new StandingsRebuildReport.TeamDrift(divisionId, teamId, kind, expected, stored);
+    }
+
+    private static String describe(Standing standing) {
+        return describe(standing.getPlayed(), standing.getWon(), standing.getDrawn(), standing.getLost(),
+            standing.getGoalsFor(), standing.getGoalsAgainst(), standing.getPoints());
+    }
+
+    private static String describe(int played, int won, int drawn, int lost, int goalsFor, int goalsAgainst, int points) {
+        return "P" + played + " W" + won + " D" + drawn + " L" + lost
+            + " GF" + goalsFor + " GA" + goalsAgainst + " Pts" + points;
+    }
+
+    /**
+     * Per-team counters in parallel int arrays, indexed by a slot assigned the
+     * first time a team is seen. Slot -1 stands for a team without matches.
+     */
+    private static final class TableAccumulator {
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] teamIds = new long[16];
+        private int[] played = new int[16];
+        private int[] won = new int[16];
+        private int[] drawn = new int[16];
+        private int[] lost = new int[16];
+        private int[] goalsFor = new int[16];
+        private int[] goalsAgainst = new int[16];
+        private int size;
+
+        void add(MatchScore score) {
+            int home = slotFor(score.homeTeamId());
+            int away = slotFor(score.awayTeamId());
+            int homeScore = score.homeScore();
+            int awayScore = score.awayScore();
+            played[home]++;
+            played[away]++;
+            goalsFor[home] += homeScore;
+            goalsAgainst[home] += awayScore;
+            goalsFor[away] += awayScore;
+            goalsAgainst[away] += homeScore;
+            if (homeScore > awayScore) {
+                won[home]++;
+                lost[away]++;
+            } else if (homeScore < awayScore) {
+                won[away]++;
+                lost[home]++;
+            } else {
+                drawn[home]++;
+                drawn[away]++;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int slotOf(Long teamId) {
+            Integer slot = slots.get(teamId);
+            return slot == null ? -1 : slot;
+        }
+
+        boolean matches(int slot, Standing standing) {
+            if (slot < 0) {
+                return standing.getPlayed() == 0 && standing.getWon() == 0 && standing.getDrawn() == 0
+                    && standing.getLost() == 0 && standing.getGoalsFor() == 0 && standing.getGoalsAgainst() == 0
+                    && standing.getGoalDifference() == 0 && standing.getPoints() == 0;
+            }
+            return standing.getPlayed() == played[slot]
+                && standing.getWon() == won[slot]
+                && standing.getDrawn() == drawn[slot]
+                && standing.getLost() == lost[slot]
+                && standing.getGoalsFor() == goalsFor[slot]
+                && standing.getGoalsAgainst() == goalsAgainst[slot]
+                && standing.getGoalDifference() == goalsFor[slot] - goalsAgainst[slot]
+                && standing.getPoints() == points(slot);
+        }
+
+        void copyInto(int slot, Standing standing) {
+            if (slot < 0) {
+                standing.setPlayed(0);
+                standing.setWon(0);
+                standing.setDrawn(0);
+                standing.setLost(0);
+                standing.setGoalsFor(0);
+                standing.setGoalsAgainst(0);
+                standing.setGoalDifference(0);
+                standing.setPoints(0);
+                return;
+            }
+            standing.setPlayed(played[slot]);
+            standing.setWon(won[slot]);
+            standing.setDrawn(drawn[slot]);
+            standing.setLost(lost[slot]);
+            standing.setGoalsFor(goalsFor[slot]);
+            standing.setGoalsAgainst(goalsAgainst[slot]);
+            standing.setGoalDifference(goalsFor[slot] - goalsAgainst[slot]);
+            standing.setPoints(points(slot));
+        }
+
+        String describe(int slot) {
+            if (slot < 0) {
+                return StandingsRebuildService.describe(0, 0, 0, 0, 0, 0, 0);
+            }
+            return StandingsRebuildService.describe(played[slot], won[slot], drawn[slot], lost[slot],
+                goalsFor[slot], goalsAgainst[slot], points(slot));
+        }
+
+        private int points(int slot) {
+            return won[slot] * 3 + drawn[slot];
+        }
+
+        private int slotFor(Long teamId) {
+            Integer slot = slots.get(teamId);
+            if (slot != null) {
+                return slot;
+            }
+            if (size == teamIds.length) {
+                int capacity = size * 2;
+                teamIds = Arrays.copyOf(teamIds, capacity);
+                played = Arrays.copyOf(played, capacity);
+                won = Arrays.copyOf(won, capacity);
+                drawn = Arrays.copyOf(drawn, capacity);
+                lost = Arrays.copyOf(lost, capacity);
+                goalsFor = Arrays.copyOf(goalsFor, capacity);
+                goalsAgainst = Arrays.copyOf(goalsAgainst, capacity);
+            }
+            teamIds[size] = teamId;
+            slots.put(teamId, size);
+            return size++;
+        }
+    }
+}
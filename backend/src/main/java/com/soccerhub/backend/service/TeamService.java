@@ -1,22 +1,74 @@
 package com.soccerhub.backend.service;
 
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.dto.TeamFixture;
+import com.soccerhub.backend.dto.TeamSummary;
 import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.exception.BadRequestException;
 import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.ProjectionQueries;
 import com.soccerhub.backend.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.soccerhub.backend.repository.KeysetSpecifications.attributeEquals;
+import static com.soccerhub.backend.repository.KeysetSpecifications.idAfter;
+
 @Service
 @RequiredArgsConstructor
 public class TeamService {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    
     private final TeamRepository teamRepository;
+    private final ProjectionQueries projectionQueries;
+    private final MatchRepository matchRepository;
+    
+    /**
+     * Lists teams in id order, one keyset page at a time.
+     */
+    public CursorPage<TeamSummary> findTeams(Long divisionId, String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<Team> spec = Specification.<Team>where(attributeEquals("divisionId", divisionId))
+            .and(idAfter(KeysetPaging.decodeId(cursor)));
+        List<TeamSummary> rows = projectionQueries.findAll(Team.class, TeamSummary.class, spec, Sort.by("id"), size + 1);
+        return KeysetPaging.page(rows, size, team -> KeysetPaging.encode(team.id()));
+    }
     
-    public List<Team> getAllTeams() {
-        return teamRepository.findAll();
+    /**
+     * Lists a team's fixtures in (matchDate, matchId) order, one keyset page
+     * at a time, from the team_fixtures read model with opponent and venue
+     * resolved. from/to bound the match date, to exclusive.
+     */
+    public CursorPage<TeamFixture> findFixtures(Long teamId, LocalDateTime from, LocalDateTime to,
+                                                String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        LocalDateTime afterDate = null;
+        Long afterMatchId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] key = KeysetPaging.decode(cursor, 2);
+            try {
+                afterDate = LocalDateTime.parse(key[0]);
+                afterMatchId = Long.valueOf(key[1]);
+            } catch (RuntimeException ex) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+        }
+        List<TeamFixture> rows = matchRepository.findTeamFixtures(teamId, from, to, afterDate, afterMatchId, size + 1);
+        // Only an empty page needs the extra lookup to tell an unknown team from one without fixtures
+        if (rows.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team not found with id: " + teamId);
+        }
+        return KeysetPaging.page(rows, size,
+            fixture -> KeysetPaging.encode(fixture.getMatchDate(), fixture.getMatchId()));
     }
     
     public Team getTeamById(Long id) {
@@ -24,10 +76,6 @@ public class TeamService {
             .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
     }
     
-    public List<Team> getTeamsByDivisionId(Long divisionId) {
-        return teamRepository.findByDivisionId(divisionId);
-    }
-    
     @Transactional
     public Team createTeam(Team team) {
         return teamRepository.save(team);
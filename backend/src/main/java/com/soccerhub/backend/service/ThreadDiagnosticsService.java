@@ -0,0 +1,192 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.ThreadDiagnosticsReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports what limits request handling on virtual threads: carrier pinning
+ * and connection pool waits.
+ *
+ * A virtual thread that blocks while holding a monitor (a synchronized block
+ * in a JDBC driver or Hibernate, for instance) pins its carrier, and with only
+ * as many carriers as CPUs a few pinned threads stall everything. Pinning is
+ * captured from the JDK's own {@code jdk.VirtualThreadPinned} flight recorder
+ * event and grouped by the first frame outside the JDK. Pool waits come from
+ * the Hikari meters Spring Boot registers.
+ */
+@Slf4j
+@Service
+public class ThreadDiagnosticsService {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 200;
+    private static final int MAX_REPORTED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+    private final long thresholdMs;
+    private final Map<String, PinningSite> sites = new ConcurrentHashMap<>();
+    private final Timer pinned;
+    private RecordingStream recording;
+
+    public ThreadDiagnosticsService(MeterRegistry meterRegistry,
+                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                    @Value("${app.diagnostics.pinning.enabled:false}") boolean pinningEnabled,
+                                    @Value("${app.diagnostics.pinning.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+        this.thresholdMs = thresholdMs;
+        this.pinned = Timer.builder("soccerhub.threads.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier")
+            .register(meterRegistry);
+        Gauge.builder("soccerhub.threads.pinned.sites", sites, Map::size)
+            .description("Distinct code locations where virtual threads were pinned")
+            .register(meterRegistry);
+
+        if (pinningEnabled) {
+            try {
+                recording = new RecordingStream();
+                recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+                recording.onEvent(PINNED_EVENT, this::record);
+                recording.startAsync();
+                log.info("Monitoring virtual thread pinning above {} ms", thresholdMs);
+            } catch (RuntimeException ex) {
+                recording = null;
+                log.warn("Could not start the pinning recording, pinning is not reported: {}", ex.getMessage());
+            }
+        }
+    }
+
+    public ThreadDiagnosticsReport report() {
+        List<ThreadDiagnosticsReport.PinningSite> pinningSites = sites.entrySet().stream()
+            .map(entry -> entry.getValue().toReport(entry.getKey()))
+            .sorted(Comparator.comparingDouble(ThreadDiagnosticsReport.PinningSite::getTotalMs).reversed())
+            .toList();
+        return new ThreadDiagnosticsReport(virtualThreads, recording != null, thresholdMs,
+            pinned.count(), pinned.totalTime(TimeUnit.MILLISECONDS), pinningSites, connectionPools());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.record(duration);
+
+        List<String> frames = new ArrayList<>();
+        String site = null;
+        if (event.getStackTrace() != null) {
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                if (!frame.isJavaFrame()) {
+                    continue;
+                }
+                String type = frame.getMethod().getType().getName();
+                String line = type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+                if (site == null && !isJdk(type)) {
+                    site = line;
+                }
+                if (site != null && frames.size() < MAX_REPORTED_FRAMES) {
+                    frames.add(line);
+                }
+            }
+        }
+        if (site == null) {
+            site = "unknown";
+        }
+
+        PinningSite entry = sites.get(site);
+        if (entry == null && sites.size() < MAX_SITES) {
+            PinningSite created = new PinningSite(frames);
+            entry = sites.putIfAbsent(site, created);
+            if (entry == null) {
+                entry = created;
+                log.warn("Virtual thread pinned for {} ms at {}\n\tat {}",
+                    duration.toMillis(), site, String.join("\n\tat ", frames));
+            }
+        }
+        if (entry != null) {
+            entry.add(duration.toNanos());
+        }
+    }
+
+    private List<ThreadDiagnosticsReport.ConnectionPool> connectionPools() {
+        List<ThreadDiagnosticsReport.ConnectionPool> pools = new ArrayList<>();
+        for (Timer acquire : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            String pool = acquire.getId().getTag("pool");
+            double p99 = 0;
+            for (ValueAtPercentile percentile : acquire.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == 0.99) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", pool).counter();
+            pools.add(new ThreadDiagnosticsReport.ConnectionPool(pool,
+                poolGauge("hikaricp.connections.active", pool),
+                poolGauge("hikaricp.connections.idle", pool),
+                poolGauge("hikaricp.connections.pending", pool),
+                poolGauge("hikaricp.connections.max", pool),
+                acquire.count(),
+                acquire.mean(TimeUnit.MILLISECONDS),
+                p99,
+                acquire.max(TimeUnit.MILLISECONDS),
+                timeouts != null ? (long) timeouts.count() : 0));
+        }
+        return pools;
+    }
+
+    private int poolGauge(String name, String pool) {
+        Gauge gauge = meterRegistry.find(name).tag("pool", pool).gauge();
+        return gauge != null ? (int) gauge.value() : 0;
+    }
+
+    private static boolean isJdk(String type) {
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static final class PinningSite {
+        private final List<String> frames;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private PinningSite(List<String> frames) {
+            this.frames = frames;
+        }
+
+        private void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private ThreadDiagnosticsReport.PinningSite toReport(String site) {
+            return new ThreadDiagnosticsReport.PinningSite(site, count.sum(),
+                totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0, frames);
+        }
+    }
+}
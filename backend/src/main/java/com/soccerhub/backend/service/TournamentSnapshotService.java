@@ -0,0 +1,475 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.SnapshotRestoreReport;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Player;
+import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.entity.Venue;
+import com.soccerhub.backend.exception.BadRequestException;
+import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.repository.BulkInsertRepository;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.PlayerRepository;
+import com.soccerhub.backend.repository.StandingRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import com.soccerhub.backend.repository.VenueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Archives a tournament with everything hanging off it (divisions, teams,
+ * players, the venues its matches use, matches and standings) as one binary
+ * snapshot, and restores such a snapshot as a new tournament. Restores get
+ * fresh ids throughout, with every reference remapped, so a snapshot can be
+ * restored into any environment, including the one it was taken from.
+ * Referees are not part of a snapshot; restored matches have none.
+ */
+@Slf4j
+@Service
+public class TournamentSnapshotService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final OrganizationRepository organizationRepository;
+    private final DivisionRepository divisionRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final VenueRepository venueRepository;
+    private final MatchRepository matchRepository;
+    private final StandingRepository standingRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final StandingService standingService;
+    private final HotPathMetrics metrics;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public TournamentSnapshotService(TournamentRepository tournamentRepository,
+                                     OrganizationRepository organizationRepository,
+                                     DivisionRepository divisionRepository,
+                                     TeamRepository teamRepository,
+                                     PlayerRepository playerRepository,
+                                     VenueRepository venueRepository,
+                                     MatchRepository matchRepository,
+                                     StandingRepository standingRepository,
+                                     BulkInsertRepository bulkInsertRepository,
+                                     StandingService standingService,
+                                     HotPathMetrics metrics,
+                                     PlatformTransactionManager transactionManager) {
+        this.tournamentRepository = tournamentRepository;
+        this.organizationRepository = organizationRepository;
+        this.divisionRepository = divisionRepository;
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.venueRepository = venueRepository;
+        this.matchRepository = matchRepository;
+        this.standingRepository = standingRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.standingService = standingService;
+        this.metrics = metrics;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public Tournament getTournament(Long tournamentId) {
+        return tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+    }
+
+    /**
+     * Writes the snapshot of a tournament. Standings are taken from the
+     * in-memory tables, so results not yet flushed are included.
+     */
+    public void writeSnapshot(Long tournamentId, OutputStream out) {
+        metrics.time("soccerhub.snapshot.export", () -> readTransaction.execute(status -> {
+            try {
+                write(getTournament(tournamentId), out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        }));
+    }
+
+    private void write(Tournament tournament, OutputStream out) throws IOException {
+        List<Division> divisions = divisionRepository.findByTournamentIdOrderById(tournament.getId());
+        List<Long> divisionIds = divisions.stream().map(Division::getId).toList();
+        List<Team> teams = divisionIds.isEmpty() ? List.of() : teamRepository.findByDivisionIdIn(divisionIds);
+        List<Player> players = new ArrayList<>();
+        List<Long> teamIds = teams.stream().map(Team::getId).toList();
+        for (int from = 0; from < teamIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            players.addAll(playerRepository.findByTeamIdIn(
+                teamIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, teamIds.size()))));
+        }
+        List<Match> matches = divisionIds.isEmpty() ? List.of() : matchRepository.findByDivisionIdInOrderById(divisionIds);
+        Set<Long> venueIds = new LinkedHashSet<>();
+        matches.forEach(match -> {
+            if (match.getVenueId() != null) {
+                venueIds.add(match.getVenueId());
+            }
+        });
+        List<Venue> venues = venueRepository.findAllById(venueIds);
+        List<Standing> standings = new ArrayList<>();
+        divisionIds.forEach(id -> standings.addAll(standingService.getStandingsByDivisionId(id)));
+
+        SnapshotFormat.Writer writer = new SnapshotFormat.Writer(out, 7);
+        writer.write(new SnapshotFormat.Section<>("tournament", List.of(tournament))
+            .int64("id", Tournament::getId)
+            .text("name", Tournament::getName)
+            .int64("organizationId", Tournament::getOrganizationId)
+            .int64("startDate", t -> t.getStartDate().toEpochDay())
+            .int64("endDate", t -> t.getEndDate().toEpochDay())
+            .text("status", t -> t.getStatus().name()));
+        writer.write(new SnapshotFormat.Section<>("divisions", divisions)
+            .int64("id", Division::getId)
+            .text("name", Division::getName)
+            .text("tiebreakers", Division::getTiebreakers)
+            .int32("matchDurationMinutes", Division::getMatchDurationMinutes)
+            .text("playoffTiebreak", d -> d.getPlayoffTiebreak() == null ? null : d.getPlayoffTiebreak().name()));
+        writer.write(new SnapshotFormat.Section<>("venues", venues)
+            .int64("id", Venue::getId)
+            .text("name", Venue::getName)
+            .text("address", Venue::getAddress)
+            .text("city", Venue::getCity)
+            .int32("capacity", Venue::getCapacity)
+            .int64("organizationId", Venue::getOrganizationId)
+            .text("timeSlots", Venue::getTimeSlots));
+        writer.write(new SnapshotFormat.Section<>("teams", teams)
+            .int64("id", Team::getId)
+            .text("name", Team::getName)
+            .int64("divisionId", Team::getDivisionId)
+            .text("logo", Team::getLogo));
+        writer.write(new SnapshotFormat.Section<>("players", players)
+            .int64("id", Player::getId)
+            .text("firstName", Player::getFirstName)
+            .text("lastName", Player::getLastName)
+            .int64("teamId", Player::getTeamId)
+            .int32("jerseyNumber", Player::getJerseyNumber)
+            .text("position", Player::getPosition));
+        writer.write(new SnapshotFormat.Section<>("matches", matches)
+            .int64("id", Match::getId)
+            .int64("divisionId", Match::getDivisionId)
+            .int64("homeTeamId", Match::getHomeTeamId)
+            .int64("awayTeamId", Match::getAwayTeamId)
+            .int64("venueId", Match::getVenueId)
+            .int64("matchDate", match -> toEpochMicros(match.getMatchDate()))
+            .int32("homeScore", Match::getHomeScore)
+            .int32("awayScore", Match::getAwayScore)
+            .text("playoffRound", Match::getPlayoffRound)
+            .int32("homeSeed", Match::getHomeSeed)
+            .int32("awaySeed", Match::getAwaySeed)
+            .int32("homePenalties", Match::getHomePenalties)
+            .int32("awayPenalties", Match::getAwayPenalties)
+            .int64("nextMatchId", Match::getNextMatchId)
+            .text("nextMatchSide", match -> sideName(match.getNextMatchSide()))
+            .int64("loserNextMatchId", Match::getLoserNextMatchId)
+            .text("loserNextMatchSide", match -> sideName(match.getLoserNextMatchSide()))
+            .text("status", match -> match.getStatus().name()));
+        writer.write(new SnapshotFormat.Section<>("standings", standings)
+            .int64("divisionId", Standing::getDivisionId)
+            .int64("teamId", Standing::getTeamId)
+            .int32("played", Standing::getPlayed)
+            .int32("won", Standing::getWon)
+            .int32("drawn", Standing::getDrawn)
+            .int32("lost", Standing::getLost)
+            .int32("goalsFor", Standing::getGoalsFor)
+            .int32("goalsAgainst", Standing::getGoalsAgainst)
+            .int32("goalDifference", Standing::getGoalDifference)
+            .int32("points", Standing::getPoints));
+        writer.finish();
+        log.info("Snapshot of tournament {}: {} divisions, {} teams, {} players, {} matches",
+            tournament.getId(), divisions.size(), teams.size(), players.size(), matches.size());
+    }
+
+    /**
+     * Restores a snapshot as a new tournament of the given organization, or
+     * of the snapshot's own organization when none is given. The input is
+     * spooled to a temporary file and read through a memory mapping; the
+     * restore is one transaction.
+     */
+    public SnapshotRestoreReport restore(InputStream snapshot, Long organizationId) {
+        long started = System.nanoTime();
+        Path file = null;
+        try {
+            file = Files.createTempFile("tournament-snapshot", ".bin");
+            Files.copy(snapshot, file, StandardCopyOption.REPLACE_EXISTING);
+            SnapshotRestoreReport report;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new BadRequestException("Snapshots larger than 2 GB are not supported");
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                Map<String, SnapshotFormat.SectionReader> sections = SnapshotFormat.read(buffer);
+                report = metrics.time("soccerhub.snapshot.restore",
+                    () -> writeTransaction.execute(status -> restore(sections, organizationId)));
+            }
+            report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+            log.info("Restored snapshot as tournament {}: {} teams, {} players, {} matches in {} ms",
+                report.getTournamentId(), report.getTeams(), report.getPlayers(), report.getMatches(),
+                report.getElapsedMillis());
+            return report;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    log.warn("Could not delete snapshot file {}: {}", file, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private SnapshotRestoreReport restore(Map<String, SnapshotFormat.SectionReader> sections, Long organizationId) {
+        SnapshotRestoreReport report = new SnapshotRestoreReport();
+
+        SnapshotFormat.SectionReader tournaments = section(sections, "tournament");
+        if (tournaments.rows() != 1) {
+            throw new BadRequestException("Snapshot must contain exactly one tournament");
+        }
+        Long targetOrganization = organizationId != null ? organizationId : tournaments.int64("organizationId", 0);
+        if (targetOrganization == null || !organizationRepository.existsById(targetOrganization)) {
+            throw new ResourceNotFoundException("Organization not found with id: " + targetOrganization);
+        }
+        Tournament tournament = new Tournament();
+        tournament.setName(tournaments.text("name")[0]);
+        tournament.setOrganizationId(targetOrganization);
+        tournament.setStartDate(LocalDate.ofEpochDay(required(tournaments.int64("startDate", 0), "tournament start date")));
+        tournament.setEndDate(LocalDate.ofEpochDay(required(tournaments.int64("endDate", 0), "tournament end date")));
+        tournament.setStatus(enumValue(Tournament.Status.class, tournaments.text("status")[0]));
+        tournament = tournamentRepository.save(tournament);
+        report.setTournamentId(tournament.getId());
+
+        SnapshotFormat.SectionReader divisionRows = section(sections, "divisions");
+        Map<Long, Long> divisionIds = new HashMap<>();
+        String[] divisionNames = divisionRows.text("name");
+        String[] tiebreakers = divisionRows.text("tiebreakers");
+        String[] playoffTiebreaks = divisionRows.text("playoffTiebreak");
+        for (int i = 0; i < divisionRows.rows(); i++) {
+            Division division = new Division();
+            division.setName(divisionNames[i]);
+            division.setTournamentId(tournament.getId());
+            division.setTiebreakers(tiebreakers[i]);
+            division.setMatchDurationMinutes(divisionRows.int32("matchDurationMinutes", i));
+            division.setPlayoffTiebreak(enumValue(Division.PlayoffTiebreak.class, playoffTiebreaks[i]));
+            divisionIds.put(divisionRows.int64("id", i), divisionRepository.save(division).getId());
+        }
+        report.setDivisions(divisionIds.size());
+
+        // Venues are shared between tournaments: an identical venue of the target organization, or an identical
+        // shared venue for a shared one, is reused
+        SnapshotFormat.SectionReader venueRows = section(sections, "venues");
+        Map<Long, Long> venueIds = new HashMap<>();
+        String[] venueNames = venueRows.text("name");
+        String[] addresses = venueRows.text("address");
+        String[] cities = venueRows.text("city");
+        String[] timeSlots = venueRows.text("timeSlots");
+        for (int i = 0; i < venueRows.rows(); i++) {
+            Long venueOrganizationId = venueRows.int64("organizationId", i) == null ? null : targetOrganization;
+            Long reused = venueRepository.findFirstByNameAndAddressAndCityAndOrganizationIdOrderById(
+                    venueNames[i], addresses[i], cities[i], venueOrganizationId)
+                .map(Venue::getId)
+                .orElse(null);
+            if (reused != null) {
+                report.setVenuesReused(report.getVenuesReused() + 1);
+            } else {
+                Venue venue = new Venue();
+                venue.setName(venueNames[i]);
+                venue.setAddress(addresses[i]);
+                venue.setCity(cities[i]);
+                venue.setCapacity(venueRows.int32("capacity", i));
+                venue.setOrganizationId(venueOrganizationId);
+                venue.setTimeSlots(timeSlots[i]);
+                reused = venueRepository.save(venue).getId();
+                report.setVenuesCreated(report.getVenuesCreated() + 1);
+            }
+            venueIds.put(venueRows.int64("id", i), reused);
+        }
+
+        SnapshotFormat.SectionReader teamRows = section(sections, "teams");
+        String[] teamNames = teamRows.text("name");
+        String[] logos = teamRows.text("logo");
+        List<Team> teams = new ArrayList<>(teamRows.rows());
+        for (int i = 0; i < teamRows.rows(); i++) {
+            Team team = new Team();
+            team.setName(teamNames[i]);
+            team.setDivisionId(remap(divisionIds, teamRows.int64("divisionId", i), "division"));
+            team.setLogo(logos[i]);
+            teams.add(team);
+        }
+        bulkInsertRepository.insertTeams(teams);
+        Map<Long, Long> teamIds = new HashMap<>();
+        for (int i = 0; i < teams.size(); i++) {
+            teamIds.put(teamRows.int64("id", i), teams.get(i).getId());
+        }
+        report.setTeams(teams.size());
+
+        SnapshotFormat.SectionReader playerRows = section(sections, "players");
+        String[] firstNames = playerRows.text("firstName");
+        String[] lastNames = playerRows.text("lastName");
+        String[] positions = playerRows.text("position");
+        List<Player> players = new ArrayList<>(playerRows.rows());
+        for (int i = 0; i < playerRows.rows(); i++) {
+            Player player = new Player();
+            player.setFirstName(firstNames[i]);
+            player.setLastName(lastNames[i]);
+            player.setTeamId(remap(teamIds, playerRows.int64("teamId", i), "team"));
+            player.setJerseyNumber(playerRows.int32("jerseyNumber", i));
+            player.setPosition(positions[i]);
+            players.add(player);
+        }
+        bulkInsertRepository.insertPlayers(players);
+        report.setPlayers(players.size());
+
+        SnapshotFormat.SectionReader matchRows = section(sections, "matches");
+        String[] playoffRounds = matchRows.text("playoffRound");
+        String[] statuses = matchRows.text("status");
+        List<Match> matches = new ArrayList<>(matchRows.rows());
+        for (int i = 0; i < matchRows.rows(); i++) {
+            Match match = new Match();
+            match.setDivisionId(remap(divisionIds, matchRows.int64("divisionId", i), "division"));
+            match.setHomeTeamId(remap(teamIds, matchRows.int64("homeTeamId", i), "team"));
+            match.setAwayTeamId(remap(teamIds, matchRows.int64("awayTeamId", i), "team"));
+            match.setVenueId(remap(venueIds, matchRows.int64("venueId", i), "venue"));
+            match.setMatchDate(fromEpochMicros(required(matchRows.int64("matchDate", i), "match date")));
+            match.setHomeScore(matchRows.int32("homeScore", i));
+            match.setAwayScore(matchRows.int32("awayScore", i));
+            match.setPlayoffRound(playoffRounds[i]);
+            match.setHomeSeed(matchRows.int32("homeSeed", i));
+            match.setAwaySeed(matchRows.int32("awaySeed", i));
+            match.setHomePenalties(matchRows.int32("homePenalties", i));
+            match.setAwayPenalties(matchRows.int32("awayPenalties", i));
+            match.setStatus(enumValue(Match.Status.class, statuses[i]));
+            matches.add(match);
+        }
+        matchRepository.insertAll(matches);
+        Map<Long, Long> matchIds = new HashMap<>();
+        for (int i = 0; i < matches.size(); i++) {
+            matchIds.put(matchRows.int64("id", i), matches.get(i).getId());
+        }
+        // Bracket links point at matches that only have ids once all are inserted
+        String[] nextSides = matchRows.text("nextMatchSide");
+        String[] loserNextSides = matchRows.text("loserNextMatchSide");
+        List<Match> linked = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            Long next = matchRows.int64("nextMatchId", i);
+            Long loserNext = matchRows.int64("loserNextMatchId", i);
+            if (next == null && loserNext == null) {
+                continue;
+            }
+            Match match = matches.get(i);
+            match.setNextMatchId(remap(matchIds, next, "match"));
+            match.setNextMatchSide(enumValue(Match.Side.class, nextSides[i]));
+            match.setLoserNextMatchId(remap(matchIds, loserNext, "match"));
+            match.setLoserNextMatchSide(enumValue(Match.Side.class, loserNextSides[i]));
+            linked.add(match);
+        }
+        matchRepository.updateBracketLinks(linked);
+        report.setMatches(matches.size());
+
+        SnapshotFormat.SectionReader standingRows = section(sections, "standings");
+        List<Standing> standings = new ArrayList<>(standingRows.rows());
+        for (int i = 0; i < standingRows.rows(); i++) {
+            Standing standing = new Standing();
+            standing.setDivisionId(remap(divisionIds, standingRows.int64("divisionId", i), "division"));
+            standing.setTeamId(remap(teamIds, standingRows.int64("teamId", i), "team"));
+            standing.setPlayed(standingRows.int32("played", i));
+            standing.setWon(standingRows.int32("won", i));
+            standing.setDrawn(standingRows.int32("drawn", i));
+            standing.setLost(standingRows.int32("lost", i));
+            standing.setGoalsFor(standingRows.int32("goalsFor", i));
+            standing.setGoalsAgainst(standingRows.int32("goalsAgainst", i));
+            standing.setGoalDifference(standingRows.int32("goalDifference", i));
+            standing.setPoints(standingRows.int32("points", i));
+            standings.add(standing);
+        }
+        standingRepository.saveAll(standings);
+        report.setStandings(standings.size());
+        return report;
+    }
+
+    private static SnapshotFormat.SectionReader section(Map<String, SnapshotFormat.SectionReader> sections,
+                                                        String name) {
+        SnapshotFormat.SectionReader section = sections.get(name);
+        if (section == null) {
+            throw new BadRequestException("Snapshot has no " + name + " section");
+        }
+        return section;
+    }
+
+    /**
+     * New id of a restored row; null stays null, an id the snapshot does not
+     * contain means the snapshot is inconsistent.
+     */
+    private static Long remap(Map<Long, Long> ids, Long oldId, String kind) {
+        if (oldId == null) {
+            return null;
+        }
+        Long newId = ids.get(oldId);
+        if (newId == null) {
+            throw new BadRequestException("Snapshot references a " + kind + " it does not contain: " + oldId);
+        }
+        return newId;
+    }
+
+    private static long required(Long value, String what) {
+        if (value == null) {
+            throw new BadRequestException("Snapshot is missing the " + what);
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Snapshot has an unknown " + type.getSimpleName() + ": " + name);
+        }
+    }
+
+    private static String sideName(Match.Side side) {
+        return side == null ? null : side.name();
+    }
+
+    private static Long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
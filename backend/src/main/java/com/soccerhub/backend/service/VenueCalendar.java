@@ -0,0 +1,235 @@
+package com.soccerhub.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Kick-off slots of a set of venues over a date range, shared by the plans of
+ * every division scheduled against it. A slot holds the minute its match ends,
+ * or 0 while free, so matches of different lengths are checked for overlap
+ * exactly; existing bookings are kept as minute ranges per venue and day.
+ *
+ * Claims and releases lock a stripe of venue days, which lets divisions be
+ * planned in parallel without ever taking overlapping slots. Candidate slots
+ * are picked from unlocked reads and checked again under the lock.
+ */
+final class VenueCalendar {
+
+    private static final int STRIPES = 256;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDate firstDay;
+    private final int days;
+    private final List<VenueDays> venues = new ArrayList<>();
+    private final Map<Long, Integer> venueIndex = new HashMap<>();
+    private final Object[] stripes = new Object[STRIPES];
+    private AtomicIntegerArray load;
+
+    VenueCalendar(LocalDate firstDay, LocalDate lastDay) {
+        this.firstDay = firstDay;
+        this.days = Math.toIntExact(ChronoUnit.DAYS.between(firstDay, lastDay) + 1);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    LocalDate firstDay() {
+        return firstDay;
+    }
+
+    int days() {
+        return days;
+    }
+
+    int venueCount() {
+        return venues.size();
+    }
+
+    int slotCount(int v) {
+        return venues.get(v).kickoff.length;
+    }
+
+    long venueId(int v) {
+        return venues.get(v).id;
+    }
+
+    LocalDateTime kickoff(int v, int day, int s) {
+        int minute = venues.get(v).kickoff[s];
+        return firstDay.plusDays(day).atTime(minute / 60, minute % 60);
+    }
+
+    /**
+     * Adds a venue offering the given kick-off times every day. Only valid
+     * while the calendar is being set up.
+     */
+    void addVenue(long venueId, List<LocalTime> kickoffs) {
+        if (kickoffs.isEmpty() || venueIndex.containsKey(venueId)) {
+            return;
+        }
+        venueIndex.put(venueId, venues.size());
+        venues.add(new VenueDays(venueId, kickoffs, days));
+        load = new AtomicIntegerArray(venues.size());
+    }
+
+    /**
+     * Marks an existing match as occupying its venue from its kick-off for
+     * the given minutes. Only valid while the calendar is being set up.
+     */
+    void book(Long venueId, LocalDateTime kickoff, int minutes) {
+        Integer v = venueId == null ? null : venueIndex.get(venueId);
+        long offset = ChronoUnit.DAYS.between(firstDay, kickoff.toLocalDate());
+        if (v == null || offset < -1 || offset >= days) {
+            return;
+        }
+        int day = (int) offset;
+        int start = kickoff.getHour() * 60 + kickoff.getMinute();
+        VenueDays venue = venues.get(v);
+        if (day >= 0) {
+            venue.book(day, start, start + minutes);
+        }
+        if (start + minutes > MINUTES_PER_DAY && day + 1 < days) {
+            venue.book(day + 1, start - MINUTES_PER_DAY, start + minutes - MINUTES_PER_DAY);
+        }
+    }
+
+    /**
+     * Matches of the given length that fit in one day across all venues.
+     */
+    int dailyCapacity(int duration) {
+        int total = 0;
+        for (VenueDays venue : venues) {
+            int free = Integer.MIN_VALUE;
+            for (int minute : venue.kickoff) {
+                if (minute >= free) {
+                    total++;
+                    free = minute + duration;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Claims the earliest kick-off on the day, at any venue, where a match of
+     * the given length fits, preferring the least used venue on ties.
+     * Returns the venue index in the high and the slot in the low 16 bits,
+     * or -1 when the day is full.
+     */
+    int claimEarliest(int day, int duration) {
+        while (true) {
+            int bestVenue = -1;
+            int bestSlot = -1;
+            for (int v = 0; v < venues.size(); v++) {
+                VenueDays venue = venues.get(v);
+                int s = venue.firstFit(day, duration);
+                if (s < 0) {
+                    continue;
+                }
+                if (bestVenue < 0 || isBetter(v, s, bestVenue, bestSlot)) {
+                    bestVenue = v;
+                    bestSlot = s;
+                }
+            }
+            if (bestVenue < 0) {
+                return -1;
+            }
+            VenueDays venue = venues.get(bestVenue);
+            synchronized (stripe(bestVenue, day)) {
+                if (venue.fits(day, bestSlot, duration)) {
+                    venue.end[day * venue.kickoff.length + bestSlot] = venue.kickoff[bestSlot] + duration;
+                    load.incrementAndGet(bestVenue);
+                    return bestVenue << 16 | bestSlot;
+                }
+            }
+            // Taken by another plan since it was read; look again
+        }
+    }
+
+    void release(int v, int day, int s) {
+        VenueDays venue = venues.get(v);
+        synchronized (stripe(v, day)) {
+            venue.end[day * venue.kickoff.length + s] = 0;
+        }
+        load.decrementAndGet(v);
+    }
+
+    private boolean isBetter(int v, int s, int bestVenue, int bestSlot) {
+        int kickoff = venues.get(v).kickoff[s];
+        int bestKickoff = venues.get(bestVenue).kickoff[bestSlot];
+        if (kickoff != bestKickoff) {
+            return kickoff < bestKickoff;
+        }
+        return load.get(v) < load.get(bestVenue);
+    }
+
+    private Object stripe(int v, int day) {
+        return stripes[Math.floorMod(v * 31 + day, STRIPES)];
+    }
+
+    private static final class VenueDays {
+        private final long id;
+        private final int[] kickoff;
+        // [day * slots + s] = minute the match starting at slot s ends, 0 while free
+        private final int[] end;
+        // Existing bookings per day as start, end minute pairs
+        private final Map<Integer, int[]> booked = new HashMap<>();
+
+        private VenueDays(long id, List<LocalTime> kickoffs, int days) {
+            this.id = id;
+            this.kickoff = new int[kickoffs.size()];
+            for (int s = 0; s < kickoff.length; s++) {
+                kickoff[s] = kickoffs.get(s).getHour() * 60 + kickoffs.get(s).getMinute();
+            }
+            this.end = new int[kickoff.length * days];
+        }
+
+        private void book(int day, int start, int stop) {
+            int[] ranges = booked.get(day);
+            int[] grown = ranges == null ? new int[2] : Arrays.copyOf(ranges, ranges.length + 2);
+            grown[grown.length - 2] = Math.max(0, start);
+            grown[grown.length - 1] = stop;
+            booked.put(day, grown);
+        }
+
+        private int firstFit(int day, int duration) {
+            for (int s = 0; s < kickoff.length; s++) {
+                if (fits(day, s, duration)) {
+                    return s;
+                }
+            }
+            return -1;
+        }
+
+        private boolean fits(int day, int s, int duration) {
+            int base = day * kickoff.length;
+            if (end[base + s] != 0) {
+                return false;
+            }
+            int start = kickoff[s];
+            int stop = start + duration;
+            for (int other = 0; other < kickoff.length; other++) {
+                int otherEnd = end[base + other];
+                if (otherEnd != 0 && kickoff[other] < stop && start < otherEnd) {
+                    return false;
+                }
+            }
+            int[] ranges = booked.get(day);
+            if (ranges != null) {
+                for (int i = 0; i < ranges.length; i += 2) {
+                    if (start < ranges[i + 1] && ranges[i] < stop) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
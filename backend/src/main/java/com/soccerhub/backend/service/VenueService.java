@@ -1,22 +1,42 @@
 package com.soccerhub.backend.service;
 
+import com.soccerhub.backend.dto.CursorPage;
+import com.soccerhub.backend.dto.VenueSummary;
 import com.soccerhub.backend.entity.Venue;
+import com.soccerhub.backend.exception.BadRequestException;
 import com.soccerhub.backend.exception.ResourceNotFoundException;
+import com.soccerhub.backend.repository.ProjectionQueries;
 import com.soccerhub.backend.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.soccerhub.backend.repository.KeysetSpecifications.idAfter;
 
 @Service
 @RequiredArgsConstructor
 public class VenueService {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    
     private final VenueRepository venueRepository;
+    private final ProjectionQueries projectionQueries;
     
-    public List<Venue> getAllVenues() {
-        return venueRepository.findAll();
+    /**
+     * Lists venues in id order, one keyset page at a time.
+     */
+    public CursorPage<VenueSummary> findVenues(String cursor, Integer limit) {
+        int size = KeysetPaging.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<Venue> spec = Specification.where(idAfter(KeysetPaging.decodeId(cursor)));
+        List<VenueSummary> rows = projectionQueries.findAll(Venue.class, VenueSummary.class, spec, Sort.by("id"), size + 1);
+        return KeysetPaging.page(rows, size, venue -> KeysetPaging.encode(venue.id()));
     }
     
     public Venue getVenueById(Long id) {
@@ -26,6 +46,7 @@ public class VenueService {
     
     @Transactional
     public Venue createVenue(Venue venue) {
+        venue.setTimeSlots(normalizeTimeSlots(venue.getTimeSlots()));
         return venueRepository.save(venue);
     }
     
@@ -36,6 +57,8 @@ public class VenueService {
         venue.setAddress(venueDetails.getAddress());
         venue.setCity(venueDetails.getCity());
         venue.setCapacity(venueDetails.getCapacity());
+        venue.setOrganizationId(venueDetails.getOrganizationId());
+        venue.setTimeSlots(normalizeTimeSlots(venueDetails.getTimeSlots()));
         return venueRepository.save(venue);
     }
     
@@ -44,4 +67,17 @@ public class VenueService {
         Venue venue = getVenueById(id);
         venueRepository.delete(venue);
     }
+    
+    static String normalizeTimeSlots(String timeSlots) {
+        if (timeSlots == null || timeSlots.isBlank()) {
+            return null;
+        }
+        try {
+            return Venue.parseTimeSlots(timeSlots).stream()
+                .map(LocalTime::toString)
+                .collect(Collectors.joining(","));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(ex.getMessage() + ". Time slots are comma separated HH:mm kick-off times");
+        }
+    }
 }
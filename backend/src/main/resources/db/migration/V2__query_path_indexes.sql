@@ -0,0 +1,20 @@
+-- Indexes for the repository query paths. Trailing id columns match the
+-- keyset order of the paginated listings, so a page is an index range scan.
+
+-- Match listing by division, schedule generation and playoff lookups
+CREATE INDEX idx_matches_division_date ON matches (division_id, match_date, id);
+CREATE INDEX idx_matches_division_status ON matches (division_id, status);
+CREATE INDEX idx_matches_division_playoff_round ON matches (division_id, playoff_round);
+
+-- Match listing by team (home OR away is answered by two index scans)
+CREATE INDEX idx_matches_home_team_date ON matches (home_team_id, match_date, id);
+CREATE INDEX idx_matches_away_team_date ON matches (away_team_id, match_date, id);
+
+-- Unfiltered and date range match listing, and listing by venue
+CREATE INDEX idx_matches_date ON matches (match_date, id);
+CREATE INDEX idx_matches_venue_date ON matches (venue_id, match_date, id);
+
+CREATE INDEX idx_teams_division ON teams (division_id, id);
+CREATE INDEX idx_players_team ON players (team_id, id);
+CREATE INDEX idx_divisions_tournament ON divisions (tournament_id, id);
+CREATE INDEX idx_tournaments_organization ON tournaments (organization_id, id);
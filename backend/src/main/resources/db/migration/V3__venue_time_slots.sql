@@ -0,0 +1,8 @@
+-- Venue availability and match length for the slot based schedule generator.
+-- Venues without an organization are shared by every organization; venues
+-- and divisions without values use the app.schedule defaults.
+ALTER TABLE venues ADD COLUMN organization_id BIGINT;
+ALTER TABLE venues ADD COLUMN time_slots VARCHAR(255);
+ALTER TABLE divisions ADD COLUMN match_duration_minutes INTEGER;
+
+CREATE INDEX idx_venues_organization ON venues (organization_id, id);
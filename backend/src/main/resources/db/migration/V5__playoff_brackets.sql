@@ -0,0 +1,15 @@
+-- Explicit playoff brackets. Every bracket match points at the match and side
+-- its winner moves to (and, for semifinals with a third-place match, where the
+-- loser goes), so a result advances a team with one lookup. Later-round
+-- matches exist before their teams are known, hence the nullable team ids.
+ALTER TABLE matches ALTER COLUMN home_team_id DROP NOT NULL;
+ALTER TABLE matches ALTER COLUMN away_team_id DROP NOT NULL;
+ALTER TABLE matches ADD COLUMN home_seed INTEGER;
+ALTER TABLE matches ADD COLUMN away_seed INTEGER;
+ALTER TABLE matches ADD COLUMN home_penalties INTEGER;
+ALTER TABLE matches ADD COLUMN away_penalties INTEGER;
+ALTER TABLE matches ADD COLUMN next_match_id BIGINT;
+ALTER TABLE matches ADD COLUMN next_match_side VARCHAR(4);
+ALTER TABLE matches ADD COLUMN loser_next_match_id BIGINT;
+ALTER TABLE matches ADD COLUMN loser_next_match_side VARCHAR(4);
+ALTER TABLE divisions ADD COLUMN playoff_tiebreak VARCHAR(20);
@@ -0,0 +1,21 @@
+-- Read model for a team's fixtures: one row per team and match it plays in.
+-- A team's fixtures are a single range scan of the primary key instead of an
+-- OR over the home and away team columns. Rows are written with their match
+-- and removed with it through the cascading foreign key; matches of a bracket
+-- whose teams are not known yet have no rows until a team advances into them.
+CREATE TABLE team_fixtures (
+    team_id BIGINT NOT NULL,
+    match_date TIMESTAMP(6) NOT NULL,
+    match_id BIGINT NOT NULL,
+    home BOOLEAN NOT NULL,
+    PRIMARY KEY (team_id, match_date, match_id),
+    CONSTRAINT fk_team_fixtures_match FOREIGN KEY (match_id) REFERENCES matches (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_team_fixtures_match ON team_fixtures (match_id);
+
+INSERT INTO team_fixtures (team_id, match_date, match_id, home)
+SELECT home_team_id, match_date, id, TRUE FROM matches WHERE home_team_id IS NOT NULL;
+
+INSERT INTO team_fixtures (team_id, match_date, match_id, home)
+SELECT away_team_id, match_date, id, FALSE FROM matches WHERE away_team_id IS NOT NULL;
@@ -0,0 +1,3 @@
+-- Tiebreaker order of a division's standings as a comma separated list of
+-- rule names. Divisions without a value use the default order.
+ALTER TABLE divisions ADD COLUMN tiebreakers VARCHAR(255);
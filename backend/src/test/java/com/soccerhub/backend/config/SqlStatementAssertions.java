@@ -0,0 +1,29 @@
+package com.soccerhub.backend.config;
+
+/**
+ * Statement budgets for tests running with app.sql-diagnostics.enabled:
+ * <pre>
+ * SqlStatementCounter.Measured&lt;Match&gt; result =
+ *     SqlStatementCounter.measure(() -&gt; matchService.updateMatchResult(id, request));
+ * SqlStatementAssertions.assertStatementsAtMost(result.stats(), 6);
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Fails with every statement and its execution count when the scope ran
+     * more than max statements.
+     */
+    public static void assertStatementsAtMost(SqlStatementCounter.Stats stats, int max) {
+        if (stats.getStatements() > max) {
+            StringBuilder message = new StringBuilder()
+                .append("Expected at most ").append(max).append(" SQL statements but ")
+                .append(stats.getStatements()).append(" were executed:");
+            stats.repeated(1).forEach((sql, count) -> message.append("\n  ").append(count).append("x ").append(sql));
+            throw new AssertionError(message.toString());
+        }
+    }
+}
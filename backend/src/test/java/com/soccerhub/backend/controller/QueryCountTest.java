@@ -0,0 +1,214 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.config.SqlDiagnosticsConfig;
+import com.soccerhub.backend.config.SqlStatementAssertions;
+import com.soccerhub.backend.config.SqlStatementCounter;
+import com.soccerhub.backend.dto.MatchResultRequest;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Organization;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.entity.Venue;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import com.soccerhub.backend.repository.VenueRepository;
+import com.soccerhub.backend.service.MatchService;
+import com.soccerhub.backend.service.StandingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the read endpoints against N+1 queries: each is called for a small
+ * and a large division, and the number of SQL statements, taken from the
+ * X-Sql-Statements header of the diagnostic mode, must be the same for both
+ * and stay within a small budget.
+ */
+@SpringBootTest(properties = "app.sql-diagnostics.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class QueryCountTest {
+
+    // Statements of one read, whatever the number of rows it returns
+    private static final int READ_BUDGET = 5;
+    private static final int SMALL = 4;
+    private static final int LARGE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private StandingService standingService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Test
+    void matchListingDoesNotQueryPerMatch() throws Exception {
+        League small = createLeague(SMALL);
+        League large = createLeague(LARGE);
+
+        assertSameStatementsWithinBudget(
+            get("/api/matches").param("divisionId", small.divisionId().toString()),
+            get("/api/matches").param("divisionId", large.divisionId().toString()));
+    }
+
+    @Test
+    void teamListingDoesNotQueryPerTeam() throws Exception {
+        League small = createLeague(SMALL);
+        League large = createLeague(LARGE);
+
+        assertSameStatementsWithinBudget(
+            get("/api/teams").param("divisionId", small.divisionId().toString()),
+            get("/api/teams").param("divisionId", large.divisionId().toString()));
+    }
+
+    @Test
+    void fixturesDoNotQueryPerMatch() throws Exception {
+        League small = createLeague(SMALL);
+        League large = createLeague(LARGE);
+
+        assertSameStatementsWithinBudget(
+            get("/api/teams/{id}/fixtures", small.teamIds().get(0)),
+            get("/api/teams/{id}/fixtures", large.teamIds().get(0)));
+    }
+
+    @Test
+    void standingsDoNotQueryPerTeam() throws Exception {
+        League small = createLeague(SMALL);
+        League large = createLeague(LARGE);
+        // Every result is a draw, so all teams are level and the ranker reads the results for head-to-head
+        drawAll(small);
+        drawAll(large);
+        standingService.flushPendingWrites();
+        standingService.rankingChanged(small.divisionId());
+        standingService.rankingChanged(large.divisionId());
+
+        assertSameStatementsWithinBudget(
+            get("/api/standings").param("divisionId", small.divisionId().toString()),
+            get("/api/standings").param("divisionId", large.divisionId().toString()));
+    }
+
+    @Test
+    void resultUpdateStaysWithinBudget() {
+        League league = createLeague(SMALL);
+
+        SqlStatementCounter.Measured<Match> result = SqlStatementCounter.measure(() ->
+            matchService.updateMatchResult(league.matchIds().get(0), new MatchResultRequest(null, 2, 1, null, null)));
+
+        assertThat(result.result().getStatus()).isEqualTo(Match.Status.COMPLETED);
+        SqlStatementAssertions.assertStatementsAtMost(result.stats(), 10);
+    }
+
+    private void assertSameStatementsWithinBudget(MockHttpServletRequestBuilder small,
+                                                  MockHttpServletRequestBuilder large) throws Exception {
+        int smallStatements = statements(small);
+        int largeStatements = statements(large);
+        assertThat(largeStatements).as("statements for the large division").isEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(READ_BUDGET);
+    }
+
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        String header = result.getResponse().getHeader(SqlDiagnosticsConfig.STATEMENTS_HEADER);
+        assertThat(header).as("%s header", SqlDiagnosticsConfig.STATEMENTS_HEADER).isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    private void drawAll(League league) {
+        for (Long matchId : league.matchIds()) {
+            matchService.updateMatchResult(matchId, new MatchResultRequest(null, 1, 1, null, null));
+        }
+    }
+
+    private League createLeague(int teamCount) {
+        Organization organization = new Organization();
+        organization.setName("Query Count Test");
+        organization = organizationRepository.save(organization);
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Query Count Cup");
+        tournament.setOrganizationId(organization.getId());
+        tournament.setStartDate(LocalDate.of(2026, 5, 1));
+        tournament.setEndDate(LocalDate.of(2026, 8, 31));
+        tournament = tournamentRepository.save(tournament);
+
+        Division division = new Division();
+        division.setName("Open");
+        division.setTournamentId(tournament.getId());
+        Long divisionId = divisionRepository.save(division).getId();
+
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Venue venue = new Venue();
+            venue.setName("Ground " + i);
+            venue.setAddress("Park Road " + i);
+            venue.setCity("Springfield");
+            venue.setOrganizationId(organization.getId());
+            venues.add(venue);
+        }
+        venues = venueRepository.saveAll(venues);
+
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 1; i <= teamCount; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            team.setDivisionId(divisionId);
+            teams.add(team);
+        }
+        teams = teamRepository.saveAll(teams);
+
+        // Each team plays every other once, every match on its own day at one of the venues
+        List<Long> matchIds = new ArrayList<>();
+        LocalDateTime kickoff = LocalDateTime.of(2026, 5, 2, 12, 0);
+        for (int home = 0; home < teams.size(); home++) {
+            for (int away = home + 1; away < teams.size(); away++) {
+                Match match = new Match();
+                match.setDivisionId(divisionId);
+                match.setHomeTeamId(teams.get(home).getId());
+                match.setAwayTeamId(teams.get(away).getId());
+                match.setVenueId(venues.get(matchIds.size() % venues.size()).getId());
+                match.setMatchDate(kickoff.plusDays(matchIds.size()));
+                matchIds.add(matchService.createMatch(match).getId());
+            }
+        }
+        return new League(divisionId, teams.stream().map(Team::getId).toList(), matchIds);
+    }
+
+    private record League(Long divisionId, List<Long> teamIds, List<Long> matchIds) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.soccerhub.backend.controller;
+
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Organization;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the response of schedule generation for an organization without
+ * venues: every generated match needs a venue slot, so both the division and
+ * the tournament endpoint answer 400 and leave the existing matches alone
+ * rather than creating matches without a venue.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ScheduleWithoutVenuesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void divisionScheduleIsRejected() throws Exception {
+        Division division = createDivisionWithoutVenues();
+        Match existing = createScheduledMatch(division.getId());
+
+        mockMvc.perform(post("/api/divisions/{id}/generate-schedule", division.getId()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", containsString("No venues available")));
+
+        assertThat(matchRepository.findById(existing.getId())).isPresent();
+    }
+
+    @Test
+    void tournamentScheduleIsRejected() throws Exception {
+        Division division = createDivisionWithoutVenues();
+        Match existing = createScheduledMatch(division.getId());
+
+        mockMvc.perform(post("/api/tournaments/{id}/generate-schedule", division.getTournamentId()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", containsString("No venues available")));
+
+        assertThat(matchRepository.findById(existing.getId())).isPresent();
+    }
+
+    private Division createDivisionWithoutVenues() {
+        Organization organization = new Organization();
+        organization.setName("No Venues Test");
+        organization = organizationRepository.save(organization);
+
+        Tournament tournament = new Tournament();
+        tournament.setName("No Venues Cup");
+        tournament.setOrganizationId(organization.getId());
+        tournament.setStartDate(LocalDate.of(2026, 5, 1));
+        tournament.setEndDate(LocalDate.of(2026, 6, 30));
+        tournament = tournamentRepository.save(tournament);
+
+        Division division = new Division();
+        division.setName("Open");
+        division.setTournamentId(tournament.getId());
+        division = divisionRepository.save(division);
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            team.setDivisionId(division.getId());
+            teams.add(team);
+        }
+        teamRepository.saveAll(teams);
+        return division;
+    }
+
+    private Match createScheduledMatch(Long divisionId) {
+        List<Team> teams = teamRepository.findByDivisionId(divisionId);
+        Match match = new Match();
+        match.setDivisionId(divisionId);
+        match.setHomeTeamId(teams.get(0).getId());
+        match.setAwayTeamId(teams.get(1).getId());
+        match.setMatchDate(LocalDateTime.of(2026, 5, 2, 12, 0));
+        match.setStatus(Match.Status.SCHEDULED);
+        return matchRepository.save(match);
+    }
+}
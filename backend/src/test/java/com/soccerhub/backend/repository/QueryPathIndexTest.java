@@ -0,0 +1,132 @@
+package com.soccerhub.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the query paths the migrations index are answered
+ * from their index rather than a full table scan. Runs against the H2 test
+ * database after the migrations, with enough rows and fresh statistics for
+ * the planner to prefer an index whenever one applies. The database is its
+ * own, so the rows inserted here stay out of other tests.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:soccerhub-query-plans;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+class QueryPathIndexTest {
+
+    private static final int ORGANIZATIONS = 5;
+    private static final int TOURNAMENTS = 20;
+    private static final int DIVISIONS = 60;
+    private static final int TEAMS = 600;
+    private static final int PLAYERS = 3000;
+    private static final int VENUES = 50;
+    private static final int MATCHES = 3000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void fillTables() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM matches", Long.class) > 0) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= TOURNAMENTS; i++) {
+            rows.add(new Object[] {"Tournament " + i, (long) (i % ORGANIZATIONS + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tournaments (name, organization_id, start_date, end_date, status, created_at, updated_at) "
+            + "VALUES (?, ?, DATE '2026-01-01', DATE '2026-12-31', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        rows.clear();
+        for (int i = 1; i <= DIVISIONS; i++) {
+            rows.add(new Object[] {"Division " + i, (long) (i % TOURNAMENTS + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO divisions (name, tournament_id, created_at, updated_at) "
+            + "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        rows.clear();
+        for (int i = 1; i <= TEAMS; i++) {
+            rows.add(new Object[] {"Team " + i, (long) (i % DIVISIONS + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name, division_id, created_at, updated_at) "
+            + "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        rows.clear();
+        for (int i = 1; i <= PLAYERS; i++) {
+            rows.add(new Object[] {"Player", "No. " + i, (long) (i % TEAMS + 1), i % 99 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO players (first_name, last_name, team_id, jersey_number, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        rows.clear();
+        for (int i = 1; i <= VENUES; i++) {
+            rows.add(new Object[] {"Venue " + i, (long) (i % ORGANIZATIONS + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO venues (name, address, city, organization_id, created_at, updated_at) "
+            + "VALUES (?, 'Main Street 1', 'Springfield', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        rows.clear();
+        for (int i = 1; i <= MATCHES; i++) {
+            rows.add(new Object[] {
+                (long) (i % DIVISIONS + 1),
+                (long) (i % TEAMS + 1),
+                (long) ((i + 7) % TEAMS + 1),
+                (long) (i % VENUES + 1),
+                Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 12, 0).plusHours(i)),
+                i % 2 == 0 ? "COMPLETED" : "SCHEDULED",
+                i % 20 == 0 ? "FINAL" : null
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO matches (division_id, home_team_id, away_team_id, venue_id, match_date, status, playoff_round, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void matchListingsUseTheirIndexes() {
+        assertUsesIndex("SELECT * FROM matches WHERE division_id = 7 AND match_date >= TIMESTAMP '2026-02-01 00:00:00' ORDER BY match_date, id",
+            "idx_matches_division_date");
+        assertUsesIndex("SELECT * FROM matches WHERE division_id = 7 AND status = 'SCHEDULED'",
+            "idx_matches_division_status");
+        assertUsesIndex("SELECT * FROM matches WHERE division_id = 7 AND playoff_round = 'FINAL'",
+            "idx_matches_division_playoff_round");
+        assertUsesIndex("SELECT * FROM matches WHERE home_team_id = 11 ORDER BY match_date, id",
+            "idx_matches_home_team_date");
+        assertUsesIndex("SELECT * FROM matches WHERE away_team_id = 11 ORDER BY match_date, id",
+            "idx_matches_away_team_date");
+        assertUsesIndex("SELECT * FROM matches WHERE match_date BETWEEN TIMESTAMP '2026-02-01 00:00:00' AND TIMESTAMP '2026-02-02 00:00:00' ORDER BY match_date, id",
+            "idx_matches_date");
+        assertUsesIndex("SELECT * FROM matches WHERE venue_id = 3 ORDER BY match_date, id",
+            "idx_matches_venue_date");
+    }
+
+    @Test
+    void childListingsUseTheirIndexes() {
+        assertUsesIndex("SELECT * FROM teams WHERE division_id = 7 ORDER BY id", "idx_teams_division");
+        assertUsesIndex("SELECT * FROM players WHERE team_id = 11 ORDER BY id", "idx_players_team");
+        assertUsesIndex("SELECT * FROM divisions WHERE tournament_id = 3 ORDER BY id", "idx_divisions_tournament");
+        assertUsesIndex("SELECT * FROM tournaments WHERE organization_id = 2 ORDER BY id", "idx_tournaments_organization");
+        assertUsesIndex("SELECT * FROM venues WHERE organization_id = 2 ORDER BY id", "idx_venues_organization");
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertThat(plan.toLowerCase(Locale.ROOT))
+            .as("plan of %s", sql)
+            .contains(index)
+            .doesNotContain("tablescan");
+    }
+}
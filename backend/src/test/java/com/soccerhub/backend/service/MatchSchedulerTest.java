@@ -0,0 +1,169 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchBooking;
+import com.soccerhub.backend.entity.Venue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans round robins into venue slots and checks that no venue is ever
+ * double-booked: placed matches at one venue never overlap each other or the
+ * existing bookings, also when several divisions with different match
+ * lengths are planned in parallel against one calendar. Teams play at most
+ * once a day and their rounds in order.
+ */
+class MatchSchedulerTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 3, 1);
+    // Kick-offs an hour apart, so a 90 minute match blocks the next slot
+    private static final String HOURLY = "10:00,11:00,12:00,13:00,14:00,15:00,16:00";
+
+    private final MatchScheduler scheduler = new MatchScheduler(90, "10:00,12:00,14:00,16:00,18:00", 500, 4);
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void singleDivisionNeverDoublesUpAVenueOrATeam() {
+        LocalDate lastDay = FIRST_DAY.plusDays(59);
+        List<Venue> venues = List.of(venue(1L, HOURLY), venue(2L, null));
+        List<MatchBooking> bookings = List.of(
+            // Another division's match at venue 1, and one of this division's teams already playing on day 5
+            new MatchBooking(1L, 900L, 901L, FIRST_DAY.plusDays(3).atTime(11, 30), 120),
+            new MatchBooking(2L, 101L, 950L, FIRST_DAY.plusDays(5).atTime(10, 0), 90));
+        VenueCalendar calendar = scheduler.calendar(FIRST_DAY, lastDay, venues, bookings);
+
+        MatchScheduler.Plan plan = scheduler.plan(calendar, new RoundRobin(teamIds(100, 12), 2), null, bookings);
+
+        assertThat(plan.placedCount()).isEqualTo(plan.matchCount());
+        List<Booking> booked = new ArrayList<>(existing(bookings, 90));
+        booked.addAll(placed(plan, 90));
+        assertNoVenueOverlaps(booked);
+        assertTeamsPlayOnceADayInRoundOrder(plan, bookings);
+        for (int m = 0; m < plan.matchCount(); m++) {
+            LocalDate day = plan.kickoff(m).toLocalDate();
+            assertThat(day).isBetween(FIRST_DAY, lastDay);
+        }
+    }
+
+    @Test
+    void parallelPlansShareTheCalendarWithoutOverlaps() {
+        LocalDate lastDay = FIRST_DAY.plusDays(29);
+        List<Venue> venues = List.of(venue(1L, HOURLY), venue(2L, HOURLY), venue(3L, "09:00,12:00,18:30"));
+        List<MatchBooking> bookings = List.of(
+            new MatchBooking(1L, 900L, 901L, FIRST_DAY.plusDays(1).atTime(10, 0), 180),
+            new MatchBooking(3L, 902L, 903L, FIRST_DAY.plusDays(2).atTime(18, 0), null));
+        VenueCalendar calendar = scheduler.calendar(FIRST_DAY, lastDay, venues, bookings);
+
+        int[] durations = {90, 60, 120, 90};
+        List<MatchScheduler.PlanRequest> requests = new ArrayList<>();
+        for (int division = 0; division < durations.length; division++) {
+            requests.add(new MatchScheduler.PlanRequest(
+                new RoundRobin(teamIds(100 * (division + 1), 8), 2), durations[division], List.of()));
+        }
+
+        List<MatchScheduler.Plan> plans = scheduler.planAll(calendar, requests);
+
+        List<Booking> booked = new ArrayList<>(existing(bookings, 90));
+        for (int division = 0; division < plans.size(); division++) {
+            MatchScheduler.Plan plan = plans.get(division);
+            assertThat(plan.placedCount()).isPositive();
+            booked.addAll(placed(plan, durations[division]));
+            assertTeamsPlayOnceADayInRoundOrder(plan, List.of());
+        }
+        assertNoVenueOverlaps(booked);
+    }
+
+    private static void assertNoVenueOverlaps(List<Booking> bookings) {
+        List<Booking> sorted = new ArrayList<>(bookings);
+        sorted.sort(Comparator.comparingLong(Booking::venueId).thenComparing(Booking::start));
+        for (int i = 1; i < sorted.size(); i++) {
+            Booking previous = sorted.get(i - 1);
+            Booking current = sorted.get(i);
+            if (previous.venueId() == current.venueId()) {
+                assertThat(current.start()).as("%s overlaps %s", current, previous).isAfterOrEqualTo(previous.end());
+            }
+        }
+    }
+
+    private static void assertTeamsPlayOnceADayInRoundOrder(MatchScheduler.Plan plan, List<MatchBooking> bookings) {
+        Set<String> teamDays = new HashSet<>();
+        for (MatchBooking booking : bookings) {
+            teamDays.add(booking.homeTeamId() + "@" + booking.matchDate().toLocalDate());
+            teamDays.add(booking.awayTeamId() + "@" + booking.matchDate().toLocalDate());
+        }
+        Map<Long, List<int[]>> roundsByTeam = new HashMap<>();
+        for (int m = 0; m < plan.matchCount(); m++) {
+            if (!plan.isPlaced(m)) {
+                continue;
+            }
+            LocalDate day = plan.kickoff(m).toLocalDate();
+            int dayIndex = (int) ChronoUnit.DAYS.between(FIRST_DAY, day);
+            for (long teamId : new long[] {plan.homeTeamId(m), plan.awayTeamId(m)}) {
+                assertThat(teamDays.add(teamId + "@" + day)).as("team %d twice on %s", teamId, day).isTrue();
+                roundsByTeam.computeIfAbsent(teamId, id -> new ArrayList<>()).add(new int[] {plan.round(m), dayIndex});
+            }
+        }
+        roundsByTeam.forEach((teamId, rounds) -> {
+            rounds.sort(Comparator.comparingInt(entry -> entry[0]));
+            for (int i = 1; i < rounds.size(); i++) {
+                assertThat(rounds.get(i)[1]).as("team %d, round %d", teamId, rounds.get(i)[0])
+                    .isGreaterThan(rounds.get(i - 1)[1]);
+            }
+        });
+    }
+
+    private static List<Booking> placed(MatchScheduler.Plan plan, int duration) {
+        List<Booking> placed = new ArrayList<>();
+        for (int m = 0; m < plan.matchCount(); m++) {
+            if (plan.isPlaced(m)) {
+                LocalDateTime kickoff = plan.kickoff(m);
+                placed.add(new Booking(plan.venueId(m), kickoff, kickoff.plusMinutes(duration)));
+            }
+        }
+        return placed;
+    }
+
+    private static List<Booking> existing(List<MatchBooking> bookings, int defaultDuration) {
+        List<Booking> existing = new ArrayList<>();
+        for (MatchBooking booking : bookings) {
+            int duration = booking.durationMinutes() != null ? booking.durationMinutes() : defaultDuration;
+            existing.add(new Booking(booking.venueId(), booking.matchDate(), booking.matchDate().plusMinutes(duration)));
+        }
+        return existing;
+    }
+
+    private static Venue venue(long id, String timeSlots) {
+        Venue venue = new Venue();
+        venue.setId(id);
+        venue.setName("Venue " + id);
+        venue.setTimeSlots(timeSlots);
+        return venue;
+    }
+
+    private static long[] teamIds(long first, int teams) {
+        long[] ids = new long[teams];
+        for (int i = 0; i < teams; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    private record Booking(long venueId, LocalDateTime start, LocalDateTime end) {
+    }
+}
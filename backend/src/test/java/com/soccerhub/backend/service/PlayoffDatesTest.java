@@ -0,0 +1,144 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchResultRequest;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Organization;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.entity.Venue;
+import com.soccerhub.backend.exception.BadRequestException;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import com.soccerhub.backend.repository.VenueRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Playoff rounds are played on consecutive days ending on the tournament's
+ * last day, so a bracket with more rounds than the tournament has days is
+ * rejected instead of being scheduled before the start date.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PlayoffDatesTest {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2026, 6, 30);
+
+    @Autowired
+    private DivisionService divisionService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void bracketLongerThanTheTournamentIsRejected() {
+        // Semifinals and final need two days, the tournament has one
+        Long divisionId = createPlayedDivision(LAST_DAY);
+
+        assertThatThrownBy(() -> divisionService.generatePlayoffs(divisionId, 4, false))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("too short for 2 playoff rounds");
+        assertThat(matchRepository.findAll())
+            .filteredOn(match -> divisionId.equals(match.getDivisionId()) && match.getPlayoffRound() != null)
+            .isEmpty();
+    }
+
+    @Test
+    void bracketThatFitsIsPlayedWithinTheTournament() {
+        LocalDate firstDay = LAST_DAY.minusDays(1);
+        Long divisionId = createPlayedDivision(firstDay);
+
+        List<Match> playoffs = divisionService.generatePlayoffs(divisionId, 4, false);
+
+        assertThat(playoffs).hasSize(3);
+        for (Match match : playoffs) {
+            LocalDate day = match.getMatchDate().toLocalDate();
+            assertThat(day).isEqualTo("FINAL".equals(match.getPlayoffRound()) ? LAST_DAY : firstDay);
+        }
+    }
+
+    /**
+     * A division of four teams in a tournament from startDate to LAST_DAY whose
+     * round robin, played before the tournament, has a result for every match.
+     */
+    private Long createPlayedDivision(LocalDate startDate) {
+        Organization organization = new Organization();
+        organization.setName("Playoff Dates Test");
+        organization = organizationRepository.save(organization);
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Playoff Dates Cup");
+        tournament.setOrganizationId(organization.getId());
+        tournament.setStartDate(startDate);
+        tournament.setEndDate(LAST_DAY);
+        tournament = tournamentRepository.save(tournament);
+
+        Division division = new Division();
+        division.setName("Open");
+        division.setTournamentId(tournament.getId());
+        Long divisionId = divisionRepository.save(division).getId();
+
+        Venue venue = new Venue();
+        venue.setName("Ground 1");
+        venue.setAddress("Park Road 1");
+        venue.setCity("Springfield");
+        venue.setOrganizationId(organization.getId());
+        venueRepository.save(venue);
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            team.setDivisionId(divisionId);
+            teams.add(team);
+        }
+        teams = teamRepository.saveAll(teams);
+
+        LocalDateTime kickoff = LocalDateTime.of(2026, 5, 2, 12, 0);
+        int played = 0;
+        for (int home = 0; home < teams.size(); home++) {
+            for (int away = home + 1; away < teams.size(); away++) {
+                Match match = new Match();
+                match.setDivisionId(divisionId);
+                match.setHomeTeamId(teams.get(home).getId());
+                match.setAwayTeamId(teams.get(away).getId());
+                match.setMatchDate(kickoff.plusDays(played++));
+                Long matchId = matchService.createMatch(match).getId();
+                matchService.updateMatchResult(matchId, new MatchResultRequest(null, away - home, 0, null, null));
+            }
+        }
+        return divisionId;
+    }
+}
@@ -0,0 +1,128 @@
+package com.soccerhub.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the circle-method invariants for even and odd team counts: every
+ * pair meets exactly once per leg, no team plays twice in a round, and home
+ * and away games are balanced without three in a row at the same venue.
+ */
+class RoundRobinTest {
+
+    private static final int[] TEAM_COUNTS = {2, 3, 4, 5, 6, 7, 8, 9, 10, 15, 16, 20, 31};
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void everyPairMeetsOncePerLeg(int legs) {
+        for (int teams : TEAM_COUNTS) {
+            Schedule schedule = play(teams, legs);
+            long[] ids = teamIds(teams);
+            for (long home : ids) {
+                for (long away : ids) {
+                    if (home >= away) {
+                        continue;
+                    }
+                    int forward = schedule.games(home, away);
+                    int backward = schedule.games(away, home);
+                    if (legs == 1) {
+                        assertThat(forward + backward).as("%d teams: %d v %d", teams, home, away).isEqualTo(1);
+                    } else {
+                        assertThat(forward).as("%d teams: %d v %d", teams, home, away).isEqualTo(1);
+                        assertThat(backward).as("%d teams: %d v %d", teams, away, home).isEqualTo(1);
+                    }
+                }
+            }
+            assertThat(schedule.matches).isEqualTo(new RoundRobin(ids, legs).matchCount());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void noTeamPlaysTwiceInARound(int legs) {
+        for (int teams : TEAM_COUNTS) {
+            RoundRobin roundRobin = new RoundRobin(teamIds(teams), legs);
+            roundRobin.forEachRound((round, home, away, matches) -> {
+                assertThat(matches).as("%d teams, round %d", teams, round).isEqualTo(roundRobin.matchesPerRound());
+                Set<Long> playing = new HashSet<>();
+                for (int i = 0; i < matches; i++) {
+                    assertThat(playing.add(home[i])).as("%d teams, round %d: team %d", teams, round, home[i]).isTrue();
+                    assertThat(playing.add(away[i])).as("%d teams, round %d: team %d", teams, round, away[i]).isTrue();
+                }
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void homeAndAwayGamesAreBalanced(int legs) {
+        for (int teams : TEAM_COUNTS) {
+            Schedule schedule = play(teams, legs);
+            for (Map.Entry<Long, StringBuilder> entry : schedule.venues.entrySet()) {
+                String venues = entry.getValue().toString();
+                long home = venues.chars().filter(venue -> venue == 'H').count();
+                long away = venues.length() - home;
+                if (legs == 1) {
+                    assertThat(Math.abs(home - away)).as("%d teams: team %d plays %s", teams, entry.getKey(), venues)
+                        .isLessThanOrEqualTo(1);
+                } else {
+                    assertThat(home).as("%d teams: team %d plays %s", teams, entry.getKey(), venues).isEqualTo(away);
+                }
+                assertThat(venues).as("%d teams: team %d", teams, entry.getKey())
+                    .doesNotContain("HHH")
+                    .doesNotContain("AAA");
+            }
+        }
+    }
+
+    @Test
+    void rejectsTooFewTeamsAndUnsupportedLegs() {
+        assertThatThrownBy(() -> new RoundRobin(teamIds(1), 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RoundRobin(teamIds(4), 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Schedule play(int teams, int legs) {
+        Schedule schedule = new Schedule();
+        new RoundRobin(teamIds(teams), legs).forEachRound((round, home, away, matches) -> {
+            for (int i = 0; i < matches; i++) {
+                schedule.record(home[i], away[i]);
+            }
+        });
+        return schedule;
+    }
+
+    private static long[] teamIds(int teams) {
+        long[] ids = new long[teams];
+        for (int i = 0; i < teams; i++) {
+            ids[i] = 100 + i;
+        }
+        return ids;
+    }
+
+    private static final class Schedule {
+        private final Map<String, Integer> pairings = new HashMap<>();
+        // Per team, H or A for each game in order
+        private final Map<Long, StringBuilder> venues = new HashMap<>();
+        private long matches;
+
+        private void record(long home, long away) {
+            pairings.merge(home + ">" + away, 1, Integer::sum);
+            venues.computeIfAbsent(home, id -> new StringBuilder()).append('H');
+            venues.computeIfAbsent(away, id -> new StringBuilder()).append('A');
+            matches++;
+        }
+
+        private int games(long home, long away) {
+            return pairings.getOrDefault(home + ">" + away, 0);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.soccerhub.backend.service;
+
+import com.soccerhub.backend.dto.MatchResultBatchResponse;
+import com.soccerhub.backend.dto.MatchResultRequest;
+import com.soccerhub.backend.entity.Division;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Organization;
+import com.soccerhub.backend.entity.Standing;
+import com.soccerhub.backend.entity.Team;
+import com.soccerhub.backend.entity.Tournament;
+import com.soccerhub.backend.repository.DivisionRepository;
+import com.soccerhub.backend.repository.MatchRepository;
+import com.soccerhub.backend.repository.OrganizationRepository;
+import com.soccerhub.backend.repository.StandingRepository;
+import com.soccerhub.backend.repository.TeamRepository;
+import com.soccerhub.backend.repository.TournamentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records, corrects and batch-submits results from many threads while the
+ * standings are read, flushed, checked and rebuilt, then compares the in-memory and
+ * stored standings with a recompute from the matches.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StandingsConcurrencyTest {
+
+    private static final int TEAMS = 8;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 150;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private StandingService standingService;
+
+    @Autowired
+    private StandingsRebuildService standingsRebuildService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private StandingRepository standingRepository;
+
+    @Test
+    void batchResultsOnUnloadedDivisionAreCountedOnce() {
+        Long divisionId = createDivision();
+        List<Match> matches = createRoundRobin(divisionId, createTeams(divisionId, 4));
+
+        MatchResultBatchResponse response = matchService.submitResults(List.of(
+            new MatchResultRequest(matches.get(0).getId(), 2, 1, null, null),
+            new MatchResultRequest(matches.get(1).getId(), 0, 0, null, null)));
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertStandingsMatchResults(divisionId);
+    }
+
+    @Test
+    void correctedResultsReplaceTheirPreviousScore() {
+        Long divisionId = createDivision();
+        List<Match> matches = createRoundRobin(divisionId, createTeams(divisionId, 4));
+        Long matchId = matches.get(0).getId();
+
+        matchService.updateMatchResult(matchId, new MatchResultRequest(null, 3, 0, null, null));
+        matchService.submitResults(List.of(new MatchResultRequest(matchId, 1, 1, null, null)));
+        matchService.updateMatchResult(matchId, new MatchResultRequest(null, 0, 2, null, null));
+
+        assertStandingsMatchResults(divisionId);
+    }
+
+    @Test
+    void concurrentResultsKeepStandingsInStepWithMatches() throws Exception {
+        Long divisionId = createDivision();
+        List<Long> matchIds = createRoundRobin(divisionId, createTeams(divisionId, TEAMS)).stream()
+            .map(Match::getId)
+            .toList();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        try {
+                            runRandomOperation(divisionId, matchIds);
+                        } catch (DataAccessException | TransactionException ex) {
+                            // Lock timeouts and deadlocks roll back the whole operation
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Conflicting operations are not retried, but most of them must have gone through
+        assertThat(conflicts.get()).isLessThan(THREADS * OPERATIONS_PER_THREAD / 2);
+        assertStandingsMatchResults(divisionId);
+    }
+
+    private void runRandomOperation(Long divisionId, List<Long> matchIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int operation = random.nextInt(100);
+        if (operation < 55) {
+            Long matchId = matchIds.get(random.nextInt(matchIds.size()));
+            matchService.updateMatchResult(matchId, randomResult(null));
+        } else if (operation < 80) {
+            Set<Long> batch = new LinkedHashSet<>();
+            int size = 2 + random.nextInt(5);
+            while (batch.size() < size) {
+                batch.add(matchIds.get(random.nextInt(matchIds.size())));
+            }
+            matchService.submitResults(batch.stream().map(this::randomResult).toList());
+        } else if (operation < 91) {
+            assertThat(standingService.getStandingsByDivisionId(divisionId)).hasSizeLessThanOrEqualTo(TEAMS);
+        } else if (operation < 96) {
+            standingService.flushPendingWrites();
+        } else if (operation < 99) {
+            standingService.checkConsistency();
+        } else {
+            // Results recorded during a rebuild must neither show up as drift nor be overwritten
+            assertThat(standingsRebuildService.rebuild(random.nextBoolean()).getDivisionsDrifted()).isZero();
+        }
+    }
+
+    private MatchResultRequest randomResult(Long matchId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new MatchResultRequest(matchId, random.nextInt(5), random.nextInt(5), null, null);
+    }
+
+    /**
+     * Recomputes the table from the division's completed league matches and
+     * compares it with the in-memory standings and, after a flush, with the
+     * stored rows. Teams without a row count as having played nothing.
+     */
+    private void assertStandingsMatchResults(Long divisionId) {
+        Map<Long, String> expected = new HashMap<>();
+        Map<Long, int[]> totals = new HashMap<>();
+        for (Match match : matchRepository.findAll()) {
+            if (!match.getDivisionId().equals(divisionId) || match.getPlayoffRound() != null
+                || match.getStatus() != Match.Status.COMPLETED) {
+                continue;
+            }
+            add(totals, match.getHomeTeamId(), match.getHomeScore(), match.getAwayScore());
+            add(totals, match.getAwayTeamId(), match.getAwayScore(), match.getHomeScore());
+        }
+        totals.forEach((teamId, t) -> expected.put(teamId, describe(t[0], t[1], t[2], t[3], t[4], t[5], t[6])));
+
+        assertThat(describe(standingService.getStandingsByDivisionId(divisionId)))
+            .as("in-memory standings")
+            .isEqualTo(expected);
+
+        standingService.flushPendingWrites();
+        assertThat(describe(standingRepository.findByDivisionIdOrderByPointsDescGoalDifferenceDesc(divisionId)))
+            .as("stored standings")
+            .isEqualTo(expected);
+        assertThat(standingService.checkConsistency()).isZero();
+    }
+
+    private static void add(Map<Long, int[]> totals, Long teamId, int goalsFor, int goalsAgainst) {
+        int[] t = totals.computeIfAbsent(teamId, id -> new int[7]);
+        t[0]++;
+        if (goalsFor > goalsAgainst) {
+            t[1]++;
+            t[6] += 3;
+        } else if (goalsFor == goalsAgainst) {
+            t[2]++;
+            t[6]++;
+        } else {
+            t[3]++;
+        }
+        t[4] += goalsFor;
+        t[5] += goalsAgainst;
+    }
+
+    private static Map<Long, String> describe(List<Standing> standings) {
+        Map<Long, String> described = new HashMap<>();
+        for (Standing s : standings) {
+            if (s.getPlayed() != 0 || s.getPoints() != 0 || s.getGoalsFor() != 0 || s.getGoalsAgainst() != 0) {
+                assertThat(s.getGoalDifference()).isEqualTo(s.getGoalsFor() - s.getGoalsAgainst());
+                described.put(s.getTeamId(), describe(s.getPlayed(), s.getWon(), s.getDrawn(), s.getLost(),
+                    s.getGoalsFor(), s.getGoalsAgainst(), s.getPoints()));
+            }
+        }
+        return described;
+    }
+
+    private static String describe(int played, int won, int drawn, int lost, int goalsFor, int goalsAgainst, int points) {
+        return "P" + played + " W" + won + " D" + drawn + " L" + lost
+            + " GF" + goalsFor + " GA" + goalsAgainst + " Pts" + points;
+    }
+
+    private Long createDivision() {
+        Organization organization = new Organization();
+        organization.setName("Standings Test");
+        organization = organizationRepository.save(organization);
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Standings Cup");
+        tournament.setOrganizationId(organization.getId());
+        tournament.setStartDate(LocalDate.of(2026, 5, 1));
+        tournament.setEndDate(LocalDate.of(2026, 6, 30));
+        tournament = tournamentRepository.save(tournament);
+
+        Division division = new Division();
+        division.setName("Open");
+        division.setTournamentId(tournament.getId());
+        return divisionRepository.save(division).getId();
+    }
+
+    private List<Team> createTeams(Long divisionId, int count) {
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            team.setDivisionId(divisionId);
+            teams.add(team);
+        }
+        return teamRepository.saveAll(teams);
+    }
+
+    private List<Match> createRoundRobin(Long divisionId, List<Team> teams) {
+        List<Match> matches = new ArrayList<>();
+        LocalDateTime kickoff = LocalDateTime.of(2026, 5, 2, 12, 0);
+        for (int home = 0; home < teams.size(); home++) {
+            for (int away = home + 1; away < teams.size(); away++) {
+                Match match = new Match();
+                match.setDivisionId(divisionId);
+                match.setHomeTeamId(teams.get(home).getId());
+                match.setAwayTeamId(teams.get(away).getId());
+                match.setMatchDate(kickoff.plusDays(matches.size()));
+                matches.add(matchService.createMatch(match));
+            }
+        }
+        return matches;
+    }
+}
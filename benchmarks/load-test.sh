@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares throughput and latency of the backend with platform threads and
+# with virtual threads. Starts the application jar once per mode, runs
+# MatchdayLoadTest against it and prints both summaries.
+#
+#   mvn -f ../backend install -DskipTests && mvn package
+#   ./load-test.sh                          # in-memory H2
+#   DATABASE_URL=jdbc:postgresql://localhost:5432/soccerhub \
+#   DATABASE_DRIVER=org.postgresql.Driver \
+#   HIBERNATE_DIALECT=org.hibernate.dialect.PostgreSQLDialect ./load-test.sh
+#
+# USERS, WARMUP, DURATION, PORT and DATABASE_POOL_SIZE can be overridden.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+BACKEND_JAR=${BACKEND_JAR:-../backend/target/backend-1.0.0-exec.jar}
+PORT=${PORT:-8080}
+USERS=${USERS:-400}
+WARMUP=${WARMUP:-15}
+DURATION=${DURATION:-60}
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS"' EXIT
+
+run_mode() {
+    local label=$1 virtual=$2
+    echo "== $label: starting backend (VIRTUAL_THREADS_ENABLED=$virtual)"
+    VIRTUAL_THREADS_ENABLED=$virtual SEED_ENABLED=true \
+        java -jar "$BACKEND_JAR" --server.port="$PORT" \
+            --logging.level.com.soccerhub.backend=INFO > "target/load-test-$label.log" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1 120); do
+        if curl -sf -o /dev/null -X POST -H 'Content-Type: application/json' \
+                -d '{"username":"admin","password":"admin123"}' "http://localhost:$PORT/api/auth/login"; then
+            break
+        fi
+        sleep 1
+    done
+    java -cp target/benchmarks.jar com.soccerhub.benchmarks.MatchdayLoadTest \
+        baseUrl="http://localhost:$PORT" users="$USERS" warmup="$WARMUP" duration="$DURATION" label="$label" \
+        | tee -a "$RESULTS"
+    kill "$pid"
+    wait "$pid" || true
+}
+
+mkdir -p target
+run_mode platform false
+run_mode virtual true
+
+echo
+echo "== Summary"
+grep '^RESULT' "$RESULTS"
@@ -0,0 +1,101 @@
+package com.soccerhub.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.entity.Standing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the largest response bodies: match listings and
+ * standings tables. The mapper is configured like Spring Boot's default one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPayloadBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Match> matches;
+    private List<Standing> standings;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        matches = new ArrayList<>(rows);
+        standings = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            Match match = new Match();
+            match.setId(id);
+            match.setDivisionId(id % 50 + 1);
+            match.setHomeTeamId(id * 2);
+            match.setAwayTeamId(id * 2 + 1);
+            match.setVenueId(id % 20 + 1);
+            match.setMatchDate(now.plusHours(id));
+            match.setHomeScore(random.nextInt(5));
+            match.setAwayScore(random.nextInt(5));
+            match.setStatus(Match.Status.COMPLETED);
+            match.setRefereeId(3L);
+            match.setCreatedAt(now);
+            match.setUpdatedAt(now);
+            matches.add(match);
+
+            Standing standing = new Standing();
+            standing.setId(id);
+            standing.setDivisionId(1L);
+            standing.setTeamId(id);
+            standing.setPlayed(30);
+            standing.setWon(random.nextInt(30));
+            standing.setDrawn(random.nextInt(30 - standing.getWon() + 1));
+            standing.setLost(30 - standing.getWon() - standing.getDrawn());
+            standing.setGoalsFor(random.nextInt(90));
+            standing.setGoalsAgainst(random.nextInt(90));
+            standing.setGoalDifference(standing.getGoalsFor() - standing.getGoalsAgainst());
+            standing.setPoints(standing.getWon() * 3 + standing.getDrawn());
+            standing.setCreatedAt(now);
+            standing.setUpdatedAt(now);
+            standings.add(standing);
+        }
+    }
+
+    @Benchmark
+    public byte[] matches() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matches);
+    }
+
+    @Benchmark
+    public byte[] standings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(standings);
+    }
+}
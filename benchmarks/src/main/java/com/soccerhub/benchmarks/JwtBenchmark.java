@@ -0,0 +1,74 @@
+package com.soccerhub.benchmarks;
+
+import com.soccerhub.backend.security.JwtTokenProvider;
+import com.soccerhub.backend.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing at login and token verification on every authenticated
+ * request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        tokenProvider = new JwtTokenProvider();
+        // Normally injected from app.jwt.* by Spring
+        set(tokenProvider, "jwtSecret", "benchmarkSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong");
+        set(tokenProvider, "jwtExpirationMs", 86_400_000L);
+        tokenProvider.init();
+
+        UserDetailsImpl principal = new UserDetailsImpl(1L, "organizer", "organizer@soccerhub.com", "{noop}secret",
+            List.of(new SimpleGrantedAuthority("ROLE_ORGANIZER")));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token);
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,139 @@
+package com.soccerhub.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.soccerhub.backend.dto.MatchSummary;
+import com.soccerhub.backend.entity.Match;
+import com.soccerhub.backend.repository.ProjectionQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A match listing end to end: query, mapping and JSON serialization, on
+ * Hibernate over in-memory H2. entities is how listings used to load, as
+ * managed entities with a dirty-checking snapshot each; readOnlyEntities
+ * skips the snapshots but still reads every column; projection is the
+ * current MatchSummary query.
+ *
+ * Run with -prof gc to see the heap allocated per listing
+ * (gc.alloc.rate.norm) next to the latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListProjectionBenchmark {
+
+    private static final Sort LISTING_ORDER = Sort.by("matchDate", "id");
+
+    @Param({"10000"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Match.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .buildSessionFactory();
+        objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        LocalDateTime kickoff = LocalDateTime.of(2024, 3, 2, 10, 0);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                Match match = new Match();
+                match.setDivisionId((long) (i % 20 + 1));
+                match.setHomeTeamId((long) (i % 40 + 1));
+                match.setAwayTeamId((long) ((i + 7) % 40 + 1));
+                match.setVenueId((long) (i % 6 + 1));
+                match.setMatchDate(kickoff.plusHours(i / 4));
+                if (i % 3 == 0) {
+                    match.setHomeScore(i % 4);
+                    match.setAwayScore(i % 3);
+                    match.setStatus(Match.Status.COMPLETED);
+                }
+                session.persist(match);
+                if ((i + 1) % 50 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public String entities() throws JsonProcessingException {
+        try (Session session = sessionFactory.openSession()) {
+            return objectMapper.writeValueAsString(loadEntities(session));
+        }
+    }
+
+    @Benchmark
+    public String readOnlyEntities() throws JsonProcessingException {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            return objectMapper.writeValueAsString(loadEntities(session));
+        }
+    }
+
+    @Benchmark
+    public String projection() throws JsonProcessingException {
+        try (Session session = sessionFactory.openSession()) {
+            List<MatchSummary> summaries = ProjectionQueries.findAll(session, Match.class, MatchSummary.class,
+                null, LISTING_ORDER, rows);
+            return objectMapper.writeValueAsString(summaries);
+        }
+    }
+
+    private List<Match> loadEntities(EntityManager entityManager) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Match> query = cb.createQuery(Match.class);
+        Root<Match> root = query.from(Match.class);
+        query.orderBy(cb.asc(root.get("matchDate")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+            .setMaxResults(rows)
+            .getResultList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.soccerhub.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storing a generated schedule, at the JDBC level Hibernate produces for each
+ * id strategy. identityPerRow is how matches were inserted with IDENTITY
+ * keys: one INSERT round trip per match, since the id is only known after the
+ * insert. pooledSequenceBatched is the current mapping: one sequence call per
+ * 50 ids and the inserts sent as JDBC batches of 50. 1560 rows is a 40-team
+ * double round robin.
+ *
+ * Runs on in-memory H2 by default, which understates the gap because there
+ * is no network. To measure against PostgreSQL:
+ * -p jdbcUrl=jdbc:postgresql://localhost:5432/soccerhub?reWriteBatchedInserts=true -p user=postgres -p password=postgres
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"1560", "20000"})
+    private int rows;
+
+    @Param({"jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Connection connection;
+    private String nextBlockSql;
+    private LocalDateTime kickoff;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        nextBlockSql = postgres ? "SELECT nextval('bench_matches_seq')" : "SELECT NEXT VALUE FOR bench_matches_seq";
+        kickoff = LocalDateTime.of(2024, 3, 2, 10, 0);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_matches_identity");
+            statement.execute("DROP TABLE IF EXISTS bench_matches_pooled");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_matches_seq");
+            for (String table : new String[] {"bench_matches_identity", "bench_matches_pooled"}) {
+                statement.execute("CREATE TABLE " + table + " ("
+                    + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "division_id BIGINT NOT NULL, home_team_id BIGINT NOT NULL, away_team_id BIGINT NOT NULL, "
+                    + "venue_id BIGINT, match_date TIMESTAMP(6) NOT NULL, status VARCHAR(20) NOT NULL, "
+                    + "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL)");
+            }
+            statement.execute("CREATE SEQUENCE bench_matches_seq START WITH 50 INCREMENT BY 50");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM bench_matches_identity");
+            statement.execute("DELETE FROM bench_matches_pooled");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_matches_identity (division_id, home_team_id, away_team_id, venue_id, "
+                    + "match_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequenceBatched() throws SQLException {
+        long nextId = 0;
+        long blockEnd = -1;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_matches_pooled (id, division_id, home_team_id, away_team_id, venue_id, "
+                    + "match_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement nextBlock = connection.prepareStatement(nextBlockSql)) {
+            for (int i = 0; i < rows; i++) {
+                if (nextId > blockEnd) {
+                    try (ResultSet result = nextBlock.executeQuery()) {
+                        result.next();
+                        blockEnd = result.getLong(1);
+                    }
+                    nextId = blockEnd - BATCH_SIZE + 1;
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private void bind(PreparedStatement insert, int first, int row) throws SQLException {
+        Timestamp now = Timestamp.valueOf(kickoff);
+        insert.setLong(first, 1L);
+        insert.setLong(first + 1, row % 40 + 1);
+        insert.setLong(first + 2, (row + 7) % 40 + 1);
+        insert.setLong(first + 3, row % 6 + 1);
+        insert.setTimestamp(first + 4, Timestamp.valueOf(kickoff.plusDays(row / 20)));
+        insert.setString(first + 5, "SCHEDULED");
+        insert.setTimestamp(first + 6, now);
+        insert.setTimestamp(first + 7, now);
+    }
+}
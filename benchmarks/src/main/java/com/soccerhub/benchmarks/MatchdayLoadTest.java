@@ -0,0 +1,176 @@
+package com.soccerhub.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load against a running backend, for comparing the
+ * platform-thread and virtual-thread modes (VIRTUAL_THREADS_ENABLED). Each
+ * simulated user repeatedly fetches a random division's matches as the
+ * organizer and its standings anonymously, which is the matchday read mix.
+ * Requests of the warmup period are not measured.
+ *
+ * Not a JMH benchmark: the server runs in its own JVM, started per mode by
+ * load-test.sh, which also collects the summary lines. Run it directly with
+ * java -cp target/benchmarks.jar com.soccerhub.benchmarks.MatchdayLoadTest
+ * baseUrl=http://localhost:8080 users=400 warmup=15 duration=60
+ */
+public class MatchdayLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        String baseUrl = options.getOrDefault("baseUrl", "http://localhost:8080");
+        int users = Integer.parseInt(options.getOrDefault("users", "400"));
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15"))).toNanos();
+        long durationNanos = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))).toNanos();
+        String label = options.getOrDefault("label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        String organizer = login(client, baseUrl, "organizer", "organizer123");
+        long[] divisionIds = ID.matcher(get(client, baseUrl + "/api/divisions?limit=500", organizer).body())
+            .results().mapToLong(result -> Long.parseLong(result.group(1))).toArray();
+        if (divisionIds.length == 0) {
+            throw new IllegalStateException("No divisions to query; start the backend with SEED_ENABLED=true");
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        List<Future<Samples>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                futures.add(executor.submit(() -> runUser(client, baseUrl, organizer, divisionIds, measureFrom, end)));
+            }
+        }
+
+        Samples total = new Samples();
+        for (Future<Samples> future : futures) {
+            total.addAll(future.get());
+        }
+        long[] latencies = Arrays.copyOf(total.latencies, total.size);
+        Arrays.sort(latencies);
+        double seconds = durationNanos / 1e9;
+        System.out.printf("RESULT %-10s users=%d requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+            label, users, latencies.length, total.errors, latencies.length / seconds,
+            percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+
+        String admin = login(client, baseUrl, "admin", "admin123");
+        System.out.println("DIAGNOSTICS " + label + " "
+            + get(client, baseUrl + "/api/admin/diagnostics/threads", admin).body());
+    }
+
+    private static Samples runUser(HttpClient client, String baseUrl, String token, long[] divisionIds,
+                                   long measureFrom, long end) {
+        Samples samples = new Samples();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long divisionId = divisionIds[random.nextInt(divisionIds.length)];
+            boolean standings = random.nextBoolean();
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return samples;
+            }
+            boolean ok;
+            try {
+                HttpResponse<String> response = standings
+                    ? get(client, baseUrl + "/api/standings?divisionId=" + divisionId, null)
+                    : get(client, baseUrl + "/api/matches?divisionId=" + divisionId, token);
+                ok = response.statusCode() < 400;
+            } catch (IOException ex) {
+                ok = false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return samples;
+            }
+            if (sent >= measureFrom) {
+                if (ok) {
+                    samples.add(System.nanoTime() - sent);
+                } else {
+                    samples.errors++;
+                }
+            }
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl, String username, String password)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login as " + username + " failed with status " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpResponse<String> get(HttpClient client, String url, String token)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        private void add(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        private void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.soccerhub.benchmarks;
+
+import com.soccerhub.backend.service.RoundRobin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-robin schedule generation as used by DivisionService.generateSchedule.
+ * Every round is written into the same pair of arrays, so the measurement
+ * covers pairing only; a full double round robin for 10,000 teams is about
+ * 100 million pairings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundRobinBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int teams;
+
+    @Param({"1", "2"})
+    private int legs;
+
+    private RoundRobin schedule;
+    private long[] home;
+    private long[] away;
+
+    @Setup
+    public void setUp() {
+        long[] teamIds = new long[teams];
+        for (int i = 0; i < teams; i++) {
+            teamIds[i] = i + 1;
+        }
+        schedule = new RoundRobin(teamIds, legs);
+        home = new long[schedule.matchesPerRound()];
+        away = new long[schedule.matchesPerRound()];
+    }
+
+    @Benchmark
+    public void fullSchedule(Blackhole blackhole) {
+        for (int round = 0; round < schedule.roundCount(); round++) {
+            int matches = schedule.fillRound(round, home, away);
+            blackhole.consume(home[matches - 1] ^ away[0]);
+        }
+    }
+
+    @Benchmark
+    public int singleRound() {
+        return schedule.fillRound(schedule.roundCount() / 2, home, away);
+    }
+}
@@ -0,0 +1,102 @@
+package com.soccerhub.benchmarks;
+
+import com.soccerhub.backend.SoccerHubApplication;
+import com.soccerhub.backend.dto.StandingDelta;
+import com.soccerhub.backend.service.StandingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Standings math behind MatchService result recording: building and
+ * coalescing per-team deltas for a batch of results, and recording one
+ * result through StandingService, which applies its deltas to the division's
+ * in-memory ranked table. The service comes from the application context,
+ * started on in-memory H2 without seed data; the write-behind flush is
+ * pushed out so only the in-memory path is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StandingsDeltaBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"20", "1000"})
+    private int teams;
+
+    private static final Long DIVISION_ID = 1L;
+
+    private long[][] results;
+    private ConfigurableApplicationContext context;
+    private StandingService standingService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        results = new long[BATCH_SIZE][];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long home = random.nextInt(teams) + 1;
+            long away = home % teams + 1;
+            results[i] = new long[] {home, away, random.nextInt(5), random.nextInt(5)};
+        }
+
+        context = new SpringApplicationBuilder(SoccerHubApplication.class)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:standings-benchmark;DB_CLOSE_DELAY=-1",
+                "app.seed.enabled=false",
+                "app.standings.flush-interval-ms=3600000",
+                "server.port=0",
+                "management.server.port=0",
+                "logging.level.root=WARN")
+            .run();
+        standingService = context.getBean(StandingService.class);
+        // Put every team into the cached table before measuring
+        for (long teamId = 1; teamId <= teams; teamId++) {
+            standingService.recordResult(DIVISION_ID, teamId, teamId % teams + 1, 0, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Map<Long, StandingDelta> coalesceBatch() {
+        Map<Long, StandingDelta> deltas = new HashMap<>();
+        for (long[] result : results) {
+            StandingDelta.forResult(result[0], result[1], (int) result[2], (int) result[3])
+                .forEach(delta -> deltas.merge(delta.teamId(), delta, StandingDelta::plus));
+        }
+        return deltas;
+    }
+
+    @Benchmark
+    public void recordResult() {
+        long[] result = results[next++ % BATCH_SIZE];
+        standingService.recordResult(DIVISION_ID, result[0], result[1], (int) result[2], (int) result[3]);
+    }
+}
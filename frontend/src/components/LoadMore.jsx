@@ -0,0 +1,13 @@
+const LoadMore = ({ hasMore, loading, onClick }) => {
+  if (!hasMore) return null;
+
+  return (
+    <div className="text-center" style={{ marginTop: '16px' }}>
+      <button className="btn btn-secondary" onClick={onClick} disabled={loading}>
+        {loading ? 'Loading...' : 'Load more'}
+      </button>
+    </div>
+  );
+};
+
+export default LoadMore;
@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
 import Loading from '../components/Loading';
+import LoadMore from '../components/LoadMore';
 import { matchesAPI, teamsAPI } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { formatDateTime } from '../utils/helpers';
@@ -8,6 +9,8 @@ import { formatDateTime } from '../utils/helpers';
 const Results = () => {
   const { user, isReferee } = useAuth();
   const [matches, setMatches] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [teams, setTeams] = useState([]);
   const [loading, setLoading] = useState(true);
 
@@ -15,20 +18,17 @@ const Results = () => {
     fetchData();
   }, []);
 
+  const visibleMatches = (matchesData) =>
+    isReferee() ? matchesData.filter(m => m.refereeId === user.id) : matchesData;
+
   const fetchData = async () => {
     try {
       const [matchesRes, teamsRes] = await Promise.all([
-        matchesAPI.getAll(),
+        matchesAPI.getPage(),
         teamsAPI.getAll()
       ]);
-      
-      let matchesData = matchesRes.data;
-      
-      if (isReferee()) {
-        matchesData = matchesData.filter(m => m.refereeId === user.id);
-      }
-      
-      setMatches(matchesData);
+      setMatches(visibleMatches(matchesRes.data));
+      setNextCursor(matchesRes.nextCursor);
       setTeams(teamsRes.data);
     } catch (error) {
       console.error('Error fetching data:', error);
@@ -37,6 +37,19 @@ const Results = () => {
     }
   };
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      const matchesRes = await matchesAPI.getPage({}, nextCursor);
+      setMatches((loaded) => [...loaded, ...visibleMatches(matchesRes.data)]);
+      setNextCursor(matchesRes.nextCursor);
+    } catch (error) {
+      console.error('Error fetching matches:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleScoreUpdate = async (matchId, homeScore, awayScore) => {
     try {
       await matchesAPI.updateResult(matchId, { homeScore, awayScore });
@@ -85,6 +98,8 @@ const Results = () => {
           />
         ))
       )}
+
+      <LoadMore hasMore={Boolean(nextCursor)} loading={loadingMore} onClick={handleLoadMore} />
     </Layout>
   );
 };
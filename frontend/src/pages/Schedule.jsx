@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
 import Modal from '../components/Modal';
 import Loading from '../components/Loading';
+import LoadMore from '../components/LoadMore';
 import { matchesAPI, teamsAPI, divisionsAPI, venuesAPI } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { formatDateForInput, formatDateTime, getStatusColor } from '../utils/helpers';
@@ -9,6 +10,8 @@ import { formatDateForInput, formatDateTime, getStatusColor } from '../utils/hel
 const Schedule = () => {
   const { isOrganizer } = useAuth();
   const [matches, setMatches] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [teams, setTeams] = useState([]);
   const [divisions, setDivisions] = useState([]);
   const [venues, setVenues] = useState([]);
@@ -36,12 +39,13 @@ const Schedule = () => {
   const fetchData = async () => {
     try {
       const [matchesRes, teamsRes, divisionsRes, venuesRes] = await Promise.all([
-        matchesAPI.getAll(),
+        matchesAPI.getPage(),
         teamsAPI.getAll(),
         divisionsAPI.getAll(),
         venuesAPI.getAll()
       ]);
       setMatches(matchesRes.data);
+      setNextCursor(matchesRes.nextCursor);
       setTeams(teamsRes.data);
       setDivisions(divisionsRes.data);
       setVenues(venuesRes.data);
@@ -52,6 +56,19 @@ const Schedule = () => {
     }
   };
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      const matchesRes = await matchesAPI.getPage({}, nextCursor);
+      setMatches((loaded) => [...loaded, ...matchesRes.data]);
+      setNextCursor(matchesRes.nextCursor);
+    } catch (error) {
+      console.error('Error fetching matches:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSubmit = async (e) => {
     e.preventDefault();
     try {
@@ -113,7 +130,11 @@ const Schedule = () => {
     try {
       setGenerating(true);
       setGenerateError('');
-      await divisionsAPI.generateSchedule(generateDivisionId);
+      const response = await divisionsAPI.generateSchedule(generateDivisionId);
+      const unscheduled = response.data?.unscheduled || [];
+      if (unscheduled.length > 0) {
+        alert(`${unscheduled.length} matches could not be placed in a free venue slot and were not created.`);
+      }
       setShowGenerateModal(false);
       setGenerateDivisionId('');
       fetchData();
@@ -202,6 +223,7 @@ const Schedule = () => {
             </tbody>
           </table>
         </div>
+        <LoadMore hasMore={Boolean(nextCursor)} loading={loadingMore} onClick={handleLoadMore} />
       </div>
 
       <Modal
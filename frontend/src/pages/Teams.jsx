@@ -2,10 +2,13 @@ import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
 import Modal from '../components/Modal';
 import Loading from '../components/Loading';
+import LoadMore from '../components/LoadMore';
 import { teamsAPI, divisionsAPI } from '../services/api';
 
 const Teams = () => {
   const [teams, setTeams] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [divisions, setDivisions] = useState([]);
   const [loading, setLoading] = useState(true);
   const [showModal, setShowModal] = useState(false);
@@ -19,10 +22,11 @@ const Teams = () => {
   const fetchData = async () => {
     try {
       const [teamsRes, divisionsRes] = await Promise.all([
-        teamsAPI.getAll(),
+        teamsAPI.getPage(),
         divisionsAPI.getAll()
       ]);
       setTeams(teamsRes.data);
+      setNextCursor(teamsRes.nextCursor);
       setDivisions(divisionsRes.data);
     } catch (error) {
       console.error('Error fetching data:', error);
@@ -31,6 +35,19 @@ const Teams = () => {
     }
   };
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      const teamsRes = await teamsAPI.getPage(undefined, nextCursor);
+      setTeams((loaded) => [...loaded, ...teamsRes.data]);
+      setNextCursor(teamsRes.nextCursor);
+    } catch (error) {
+      console.error('Error fetching teams:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSubmit = async (e) => {
     e.preventDefault();
     try {
@@ -119,6 +136,7 @@ const Teams = () => {
             </tbody>
           </table>
         </div>
+        <LoadMore hasMore={Boolean(nextCursor)} loading={loadingMore} onClick={handleLoadMore} />
       </div>
 
       <Modal
@@ -34,6 +34,32 @@ apiClient.interceptors.response.use(
   }
 );
 
+// List endpoints return one page at a time and put the cursor of the next
+// page in the X-Next-Cursor header. Returns the response of one page with
+// that cursor as nextCursor, null on the last page.
+const getPage = async (url, params = {}, cursor) => {
+  const response = await apiClient.get(url, { params: { ...params, cursor } });
+  return { ...response, nextCursor: response.headers['x-next-cursor'] || null };
+};
+
+// Lookups such as names and select options need more than one page, so they
+// follow the cursors with the largest page size, up to MAX_LOOKUP_PAGES pages.
+const LOOKUP_PAGE_SIZE = 500;
+const MAX_LOOKUP_PAGES = 4;
+
+const getAllPages = async (url, params = {}) => {
+  const lookupParams = { ...params, limit: LOOKUP_PAGE_SIZE };
+  const first = await getPage(url, lookupParams);
+  const data = [...first.data];
+  let cursor = first.nextCursor;
+  for (let pages = 1; cursor && pages < MAX_LOOKUP_PAGES; pages++) {
+    const page = await getPage(url, lookupParams, cursor);
+    data.push(...page.data);
+    cursor = page.nextCursor;
+  }
+  return { ...first, data, nextCursor: cursor };
+};
+
 // Auth API
 export const authAPI = {
   login: (credentials) => apiClient.post('/auth/login', credentials),
@@ -60,7 +86,8 @@ export const tournamentsAPI = {
 
 // Divisions API
 export const divisionsAPI = {
-  getAll: (tournamentId) => apiClient.get('/divisions', { params: { tournamentId } }),
+  getAll: (tournamentId) => getAllPages('/divisions', { tournamentId }),
+  getPage: (tournamentId, cursor) => getPage('/divisions', { tournamentId }, cursor),
   getById: (id) => apiClient.get(`/divisions/${id}`),
   create: (data) => apiClient.post('/divisions', data),
   update: (id, data) => apiClient.put(`/divisions/${id}`, data),
@@ -71,7 +98,8 @@ export const divisionsAPI = {
 
 // Teams API
 export const teamsAPI = {
-  getAll: (divisionId) => apiClient.get('/teams', { params: { divisionId } }),
+  getAll: (divisionId) => getAllPages('/teams', { divisionId }),
+  getPage: (divisionId, cursor) => getPage('/teams', { divisionId }, cursor),
   getById: (id) => apiClient.get(`/teams/${id}`),
   create: (data) => apiClient.post('/teams', data),
   update: (id, data) => apiClient.put(`/teams/${id}`, data),
@@ -80,7 +108,8 @@ export const teamsAPI = {
 
 // Players API
 export const playersAPI = {
-  getAll: (teamId) => apiClient.get('/players', { params: { teamId } }),
+  getAll: (teamId) => getAllPages('/players', { teamId }),
+  getPage: (teamId, cursor) => getPage('/players', { teamId }, cursor),
   getById: (id) => apiClient.get(`/players/${id}`),
   create: (data) => apiClient.post('/players', data),
   update: (id, data) => apiClient.put(`/players/${id}`, data),
@@ -89,7 +118,8 @@ export const playersAPI = {
 
 // Venues API
 export const venuesAPI = {
-  getAll: () => apiClient.get('/venues'),
+  getAll: () => getAllPages('/venues'),
+  getPage: (cursor) => getPage('/venues', {}, cursor),
   getById: (id) => apiClient.get(`/venues/${id}`),
   create: (data) => apiClient.post('/venues', data),
   update: (id, data) => apiClient.put(`/venues/${id}`, data),
@@ -98,7 +128,8 @@ export const venuesAPI = {
 
 // Matches API
 export const matchesAPI = {
-  getAll: (params) => apiClient.get('/matches', { params }),
+  getAll: (params) => getAllPages('/matches', params),
+  getPage: (params, cursor) => getPage('/matches', params, cursor),
   getById: (id) => apiClient.get(`/matches/${id}`),
   create: (data) => apiClient.post('/matches', data),
   update: (id, data) => apiClient.put(`/matches/${id}`, data),